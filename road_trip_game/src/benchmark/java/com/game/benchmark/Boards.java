@@ -0,0 +1,105 @@
+package com.game.benchmark;
+
+import com.game.model.cells.Cell;
+import com.game.model.levels.Level;
+import com.game.model.levels.LevelDifficulty;
+import com.game.model.levels.LevelException;
+import com.game.model.levels.LevelGenerator;
+import com.game.model.levels.Move;
+import com.game.model.levels.Solution;
+import com.game.model.utils.Coordinate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Boards measured by the JMH benchmarks. A board is either a level included in the game, given by its file in the
+ * classpath (e.g. "levels/level7.txt"), or a generated level, given by its size (e.g. "256" for a 256x256 board).
+ * Generated levels always use the same seed, so every run measures the same boards.
+ */
+final class Boards {
+
+    /**
+     * Seed of the generated levels.
+     */
+    private static final long SEED = 20240601L;
+
+    private Boards() {
+    }
+
+    /**
+     * Returns the text (in the format of the level files) of an unsolved board.
+     *
+     * @param board Level file in the classpath or size of a generated level.
+     * @return Text of the level.
+     */
+    static String text(String board) {
+        if (isGenerated(board)) {
+            int size = Integer.parseInt(board);
+            return new LevelGenerator(SEED).generate(size, LevelDifficulty.WIZARD, size);
+        }
+        try (InputStream inputStream = Boards.class.getClassLoader().getResourceAsStream(board)) {
+            return new String(Objects.requireNonNull(inputStream, board).readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a level of the given board that is solved: the generated level before scrambling it,
+     * or the level included in the game after playing the moves found by its solver.
+     *
+     * @param board Level file in the classpath or size of a generated level.
+     * @return Solved level.
+     * @throws LevelException When the level cannot be parsed or solved.
+     */
+    static Level solved(String board) throws LevelException {
+        if (isGenerated(board)) {
+            int size = Integer.parseInt(board);
+            return Level.fromReader(new StringReader(new LevelGenerator(SEED).generateSolved(size, LevelDifficulty.WIZARD)));
+        }
+        Level level = Level.fromReader(new StringReader(text(board)));
+        Solution solution = level.solve();
+        if (!solution.isSolvable()) {
+            throw new IllegalStateException("The solver could not solve " + board + ": " + solution.getStatus());
+        }
+        for (Move move : solution.getMoves()) {
+            move.apply(level);
+        }
+        return level;
+    }
+
+    /**
+     * Returns the coordinate of the last cell of the board (in row-major order) that is movable or rotatable,
+     * skipping the given cell and the cells of its type. Cells are looked for from the last row, where the START
+     * cell is, so moving them usually changes the route of the level.
+     *
+     * @param level Level in which the cell is looked for.
+     * @param movable True to look for a movable cell, false to look for a rotatable one.
+     * @param other Coordinate of a cell whose type is skipped, or {@code null}.
+     * @return Coordinate of the cell.
+     * @throws LevelException When a coordinate is invalid.
+     * @throws IllegalStateException When the level has no such cell.
+     */
+    static Coordinate lastCell(Level level, boolean movable, Coordinate other) throws LevelException {
+        Cell skipped = other == null ? null : level.getCell(other);
+        for (int row = level.getSize() - 1; row >= 0; row--) {
+            for (int column = level.getSize() - 1; column >= 0; column--) {
+                Cell cell = level.getCell(new Coordinate(row, column));
+                if ((movable ? cell.isMovable() : cell.isRotatable())
+                        && (skipped == null || cell.getType() != skipped.getType())) {
+                    return new Coordinate(row, column);
+                }
+            }
+        }
+        throw new IllegalStateException("The board has no " + (movable ? "movable" : "rotatable") + " cell to move");
+    }
+
+    private static boolean isGenerated(String board) {
+        return !board.endsWith(".txt");
+    }
+}
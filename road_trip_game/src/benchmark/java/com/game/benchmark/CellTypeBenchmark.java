@@ -0,0 +1,59 @@
+package com.game.benchmark;
+
+import com.game.model.cells.CellType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the lookups of {@link CellType}. Each operation looks up every type once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellTypeBenchmark {
+
+    private CellType[] types;
+
+    /**
+     * File symbols of all the types, plus a symbol that is not used by any type.
+     */
+    private char[] symbols;
+
+    @Setup
+    public void setUp() {
+        types = CellType.values();
+        symbols = new char[types.length + 1];
+        for (int i = 0; i < types.length; i++) {
+            symbols[i] = types[i].getFileSymbol();
+        }
+        symbols[types.length] = '?';
+    }
+
+    @Benchmark
+    public void map2CellType(Blackhole blackhole) {
+        for (char symbol : symbols) {
+            blackhole.consume(CellType.map2CellType(symbol));
+        }
+    }
+
+    @Benchmark
+    public void getAvailableConnections(Blackhole blackhole) {
+        for (CellType type : types) {
+            blackhole.consume(type.getAvailableConnections());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.game.benchmark;
+
+import com.game.controller.Game;
+import com.game.model.levels.LevelException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the construction of a {@link Game} with the levels included in the game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    @Benchmark
+    public Game construct() throws IOException {
+        return new Game("levels/");
+    }
+
+    /**
+     * Constructs a game and loads its first level, i.e. what a player waits for before the first board is shown.
+     */
+    @Benchmark
+    public Game constructAndLoadLevel() throws IOException, LevelException {
+        Game game = new Game("levels/");
+        game.nextLevel();
+        return game;
+    }
+}
@@ -0,0 +1,85 @@
+package com.game.benchmark;
+
+import com.game.model.levels.Level;
+import com.game.model.levels.LevelException;
+import com.game.model.utils.Coordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the operations of {@link Level} on the levels included in the game and on generated boards
+ * from 5x5 to 256x256 (see {@link Boards}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmark {
+
+    @Param({"levels/level1.txt", "levels/level2.txt", "levels/level3.txt", "levels/level4.txt",
+            "levels/level5.txt", "levels/level6.txt", "levels/level7.txt", "5", "16", "64", "128", "256"})
+    public String board;
+
+    private String text;
+
+    private Level unsolved;
+
+    private Level solved;
+
+    private Coordinate first;
+
+    private Coordinate second;
+
+    @Setup
+    public void setUp() throws LevelException {
+        text = Boards.text(board);
+        unsolved = Level.fromReader(new StringReader(text));
+        solved = Boards.solved(board);
+        first = Boards.lastCell(unsolved, true, null);
+        second = Boards.lastCell(unsolved, true, first);
+    }
+
+    @Benchmark
+    public Level parse() throws LevelException {
+        return Level.fromReader(new StringReader(text));
+    }
+
+    @Benchmark
+    public boolean isSolvedUnsolved() throws LevelException {
+        return unsolved.isSolved();
+    }
+
+    @Benchmark
+    public boolean isSolvedSolved() throws LevelException {
+        return solved.isSolved();
+    }
+
+    /**
+     * Swaps two cells near the START cell and undoes the swap, which swaps them again. Undoing keeps the history
+     * of moves (and the memory of the benchmark) from growing, so each operation measures two swaps.
+     */
+    @Benchmark
+    public boolean swapCells() throws LevelException {
+        unsolved.swapCells(first, second);
+        return unsolved.undo();
+    }
+
+    @Benchmark
+    public String toStringUnsolved() {
+        return unsolved.toString();
+    }
+}
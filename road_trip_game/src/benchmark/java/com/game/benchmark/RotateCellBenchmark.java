@@ -0,0 +1,55 @@
+package com.game.benchmark;
+
+import com.game.model.levels.Level;
+import com.game.model.levels.LevelException;
+import com.game.model.utils.Coordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of {@link Level#rotateCell(Coordinate)}. It is apart from {@link LevelBenchmark} because only
+ * some of the levels included in the game (and not the generated 5x5 board) have rotatable cells.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotateCellBenchmark {
+
+    @Param({"levels/level2.txt", "levels/level7.txt", "16", "64", "128", "256"})
+    public String board;
+
+    private Level level;
+
+    private Coordinate rotatable;
+
+    @Setup
+    public void setUp() throws LevelException {
+        level = Level.fromReader(new StringReader(Boards.text(board)));
+        rotatable = Boards.lastCell(level, false, null);
+    }
+
+    /**
+     * Rotates a cell near the START cell and undoes the rotation, which rotates it again (rotatable cells only have
+     * two orientations). Undoing keeps the history of moves from growing, so each operation measures two rotations.
+     */
+    @Benchmark
+    public boolean rotateCell() throws LevelException {
+        level.rotateCell(rotatable);
+        return level.undo();
+    }
+}
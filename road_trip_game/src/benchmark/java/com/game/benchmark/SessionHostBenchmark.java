@@ -0,0 +1,160 @@
+package com.game.benchmark;
+
+import com.game.model.cells.Cell;
+import com.game.model.levels.Level;
+import com.game.model.levels.LevelException;
+import com.game.model.levels.LevelSource;
+import com.game.model.levels.ResourceLevelSource;
+import com.game.model.utils.Coordinate;
+import com.game.view.server.SessionHost;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Benchmark that opens many sessions in a {@link SessionHost} and measures the latency of a move (the time between
+ * sending a command and receiving its response) while all the sessions are open.
+ * <br/><br/>
+ * Arguments (all of them optional): number of sessions (default 10000), number of moves per session (default 10)
+ * and port of a host that is already running (by default, a host is started in this JVM and its heap per session
+ * is also measured). Each session needs a file descriptor for the client and another one for the host, so the host
+ * may need to run in another process to stay below the limit of open files.
+ */
+public class SessionHostBenchmark {
+
+    /**
+     * Client of a session that reads the responses with a small buffer.
+     */
+    private static final class Client {
+
+        private final Socket socket;
+        private final InputStream input;
+        private final OutputStream output;
+        private final byte[] buffer = new byte[256];
+
+        private Client(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            socket.setTcpNoDelay(true);
+            input = socket.getInputStream();
+            output = socket.getOutputStream();
+        }
+
+        /**
+         * Sends a command and returns the first line of the response.
+         */
+        private String send(byte[] command) throws IOException {
+            output.write(command);
+            output.flush();
+            int length = 0;
+            while (length == 0 || buffer[length - 1] != '\n') {
+                int read = input.read(buffer, length, buffer.length - length);
+                if (read < 0) {
+                    throw new IOException("The host has closed the connection");
+                }
+                length += read;
+            }
+            return new String(buffer, 0, length - 1, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Entry point of the benchmark.
+     *
+     * @param args Number of sessions, moves per session and port of the host.
+     * @throws Exception When the host cannot be started or a session fails.
+     */
+    public static void main(String[] args) throws Exception {
+        int numSessions = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int moves = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        LevelSource source = new ResourceLevelSource("levels/");
+
+        SessionHost host = null;
+        int port;
+        if (args.length > 2) {
+            port = Integer.parseInt(args[2]);
+        } else {
+            host = new SessionHost(source, 0);
+            host.start();
+            port = host.getPort();
+        }
+
+        long baseHeap = usedHeap();
+        Client[] clients = new Client[numSessions];
+        for (int i = 0; i < numSessions; i++) {
+            clients[i] = new Client(port);
+            String response = clients[i].send("NEXT\n".getBytes(StandardCharsets.UTF_8));
+            if (!response.startsWith("OK 1 ")) {
+                throw new IllegalStateException("Unexpected response: " + response);
+            }
+        }
+        if (host != null) {
+            while (host.getNumSessions() < numSessions) {
+                Thread.sleep(10);
+            }
+            System.out.printf("sessions=%d threads=%s heap/session=%.1fKB (host and client)%n", numSessions,
+                    host.isVirtualThreads() ? "virtual" : "platform", (usedHeap() - baseHeap) / 1024.0 / numSessions);
+        } else {
+            System.out.printf("sessions=%d port=%d%n", numSessions, port);
+        }
+
+        byte[] command = ("SWAP " + movableCell(source) + " " + movableCell(source) + "\n").getBytes(StandardCharsets.UTF_8);
+        long[] latencies = new long[numSessions * moves];
+        int sample = 0;
+        for (int move = 0; move < moves; move++) {
+            for (Client client : clients) {
+                long start = System.nanoTime();
+                String response = client.send(command);
+                latencies[sample++] = System.nanoTime() - start;
+                if (!response.startsWith("OK ")) {
+                    throw new IllegalStateException("Unexpected response: " + response);
+                }
+            }
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("moves=%d p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus%n", latencies.length,
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                percentile(latencies, 0.999), latencies[latencies.length - 1] / 1000.0);
+
+        for (Client client : clients) {
+            client.socket.close();
+        }
+        if (host != null) {
+            host.close();
+        }
+    }
+
+    /**
+     * Returns the coordinate ("row column") of the first movable cell of level 1. Swapping it with itself is a legal move.
+     */
+    private static String movableCell(LevelSource source) throws LevelException {
+        Level level = source.getTemplate(1).newLevel();
+        for (int row = 0; row < level.getSize(); row++) {
+            for (int column = 0; column < level.getSize(); column++) {
+                Cell cell = level.getCell(new Coordinate(row, column));
+                if (cell.isMovable()) {
+                    return row + " " + column;
+                }
+            }
+        }
+        throw new IllegalStateException("Level 1 has no movable cell");
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.round(percentile * sorted.length))] / 1000.0;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,82 @@
+package com.game.benchmark;
+
+import com.game.model.levels.Level;
+import com.game.model.levels.LevelException;
+import com.game.model.levels.LevelSolver;
+import com.game.model.levels.ParallelLevelSolver;
+import com.game.model.levels.Solution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark that prints the scaling curve of {@link ParallelLevelSolver}, i.e. the speed-up obtained
+ * with 1, 2, 4, ... worker threads over the sequential {@link LevelSolver}.
+ * <br/><br/>
+ * Arguments (all of them optional): level file in the classpath (default "levels/level7.txt"),
+ * maximum number of expanded nodes per search (default 200000) and maximum number of threads
+ * (default the number of available processors).
+ */
+public class SolverScalingBenchmark {
+
+    /**
+     * Number of measured runs per configuration. The best one is reported.
+     */
+    private static final int RUNS = 3;
+
+    /**
+     * Entry point of the benchmark.
+     *
+     * @param args Level file, maximum number of nodes and maximum number of threads.
+     * @throws LevelException When the level cannot be loaded.
+     */
+    public static void main(String[] args) throws LevelException {
+        String file = args.length > 0 ? args[0] : "levels/level7.txt";
+        long maxNodes = args.length > 1 ? Long.parseLong(args[1]) : 200_000;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        Level level = new Level(file);
+
+        List<Integer> threads = new ArrayList<>();
+        for (int n = 1; n < maxThreads; n *= 2) {
+            threads.add(n);
+        }
+        threads.add(maxThreads);
+
+        System.out.printf("level=%s maxNodes=%d processors=%d%n", file, maxNodes,
+                Runtime.getRuntime().availableProcessors());
+
+        Solution sequential = best(new LevelSolver(maxNodes), level);
+        System.out.printf("%-12s %10s %10s %14s %8s %10s%n", "threads", "time(ms)", "nodes", "nodes/s", "speedup", "efficiency");
+        print("sequential", sequential, sequential, 1);
+
+        for (int n : threads) {
+            try (ParallelLevelSolver solver = new ParallelLevelSolver(n, maxNodes)) {
+                print(String.valueOf(n), best(solver, level), sequential, n);
+            }
+        }
+    }
+
+    /**
+     * Runs the solver once to warm up and then {@link #RUNS} times, returning the fastest run.
+     */
+    private static Solution best(LevelSolver solver, Level level) {
+        Solution best = solver.solve(level);
+        for (int i = 0; i < RUNS; i++) {
+            System.gc();
+            Solution solution = solver.solve(level);
+            if (solution.getWallTime() < best.getWallTime()) {
+                best = solution;
+            }
+        }
+        return best;
+    }
+
+    private static void print(String label, Solution solution, Solution sequential, int threads) {
+        double throughput = solution.getNodesExpanded() / (solution.getWallTime() / 1e9);
+        double sequentialThroughput = sequential.getNodesExpanded() / (sequential.getWallTime() / 1e9);
+        double speedup = throughput / sequentialThroughput;
+        System.out.printf("%-12s %10.1f %10d %14.0f %8.2f %9.0f%%%n", label, solution.getWallTime() / 1e6,
+                solution.getNodesExpanded(), throughput, speedup, 100 * speedup / threads);
+    }
+}
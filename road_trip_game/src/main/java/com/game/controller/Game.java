@@ -4,6 +4,19 @@ import com.game.model.cells.Cell;
 import com.game.model.levels.LevelDifficulty;
 import com.game.model.levels.Level;
 import com.game.model.levels.LevelException;
+import com.game.model.levels.LevelInfo;
+import com.game.model.levels.LevelManifest;
+import com.game.model.levels.LevelPack;
+import com.game.model.levels.LevelSource;
+import com.game.model.levels.LevelTemplate;
+import com.game.model.levels.Replay;
+import com.game.model.levels.ReplayRecorder;
+import com.game.model.levels.Solution;
+import com.game.model.metrics.GameMetrics;
+import com.game.model.metrics.LevelEvent;
+import com.game.model.metrics.LevelLoadEvent;
+import com.game.model.metrics.MetricsRecorder;
+import com.game.model.metrics.NextLevelEvent;
 import com.game.model.utils.Coordinate;
 
 import java.io.*;
@@ -12,8 +25,16 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Controller class of the game. It is the middleware (or bridge) between the model and view classes.
@@ -45,6 +66,48 @@ public class Game {
      */
     private Level level;
 
+    /**
+     * Source of the levels, or {@code null} when the levels are the files of the attribute "fileFolder".
+     */
+    private final LevelSource source;
+
+    /**
+     * Levels that have already been loaded, by number of level. Loading or reloading a level copies its template.
+     */
+    private final Map<Integer, LevelTemplate> templates = new HashMap<>();
+
+    /**
+     * Metadata of the levels, sorted by number of level. It is read from the manifest of the folder or,
+     * if there is no manifest, it is built from the level files the first time it is requested.
+     */
+    private List<LevelInfo> levels;
+
+    /**
+     * Background thread that parses the next level while the current one is played. It is {@code null}
+     * when the prefetch mode is disabled.
+     */
+    private ExecutorService prefetcher;
+
+    /**
+     * Pending load of the level "prefetchedLevel", or {@code null} if no level is being prefetched.
+     */
+    private Future<LevelTemplate> prefetched;
+
+    /**
+     * Number of the level that is being prefetched.
+     */
+    private int prefetchedLevel;
+
+    /**
+     * Recorder of the moves of the current level. It is restarted every time a level is loaded.
+     */
+    private ReplayRecorder recorder;
+
+    /**
+     * Recorder of the metrics of the moves of this game.
+     */
+    private final MetricsRecorder metrics = new MetricsRecorder();
+
     /**
      * Constructor
      *
@@ -52,11 +115,41 @@ public class Game {
      * @throws IOException When there is a problem while retrieving number of levels
      */
     public Game(String fileFolder) throws IOException {
-        int num;
-
         setFileFolder(fileFolder);
+        source = null;
+
+        //Read the number of levels and their metadata from the manifest of the folder, if any.
+        URL manifest = getClass().getClassLoader().getResource(getFileFolder() + LevelManifest.FILE_NAME);
+
+        if (manifest != null) {
+            try (InputStream inputStream = manifest.openStream()) {
+                levels = LevelManifest.read(inputStream);
+            }
+            maxLevels = levels.size();
+        } else {
+            maxLevels = countLevelFiles();
+        }
+    }
 
-        //Get the number of files that are in the fileFolder, i.e. the number of levels.
+    /**
+     * Constructor of a game whose levels are read from the given source (e.g. a {@link LevelPack}).
+     *
+     * @param source Source of the levels.
+     */
+    public Game(LevelSource source) {
+        this.source = Objects.requireNonNull(source);
+        maxLevels = source.getNumLevels();
+    }
+
+    /**
+     * Gets the number of files that are in the fileFolder, i.e. the number of levels.
+     * It is only used when the folder does not have a manifest (e.g. it has not been generated by the build).
+     *
+     * @return Number of files of the folder.
+     * @throws IOException When there is a problem while retrieving number of levels
+     */
+    private int countLevelFiles() throws IOException {
+        int num;
 
         URL url = getClass().getClassLoader().getResource(getFileFolder());
 
@@ -90,7 +183,7 @@ public class Game {
                 num = (int) reader.lines().count();
             }
         }
-            maxLevels = num;
+        return num;
     }
 
     /**
@@ -111,6 +204,37 @@ public class Game {
         return fileFolder;
     }
 
+    /**
+     * Enables or disables the prefetch mode. When it is enabled, as soon as a level starts the next one
+     * is parsed and validated in a background thread, so that {@link #nextLevel()} does not need to read it.
+     *
+     * @param prefetch True to enable the prefetch mode, false to disable it.
+     */
+    public void setPrefetch(boolean prefetch) {
+        if (prefetch && prefetcher == null) {
+            prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "level-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+            prefetchNextLevel();
+        } else if (!prefetch && prefetcher != null) {
+            prefetcher.shutdownNow();
+            prefetcher = null;
+            prefetched = null;
+            prefetchedLevel = 0;
+        }
+    }
+
+    /**
+     * Indicates if the prefetch mode is enabled.
+     *
+     * @return True if the next level is parsed in background, otherwise false.
+     */
+    public boolean isPrefetch() {
+        return prefetcher != null;
+    }
+
     /**
      * Returns the number of rows and columns of the board of the current level. The board is an NxN square.
      *
@@ -147,6 +271,27 @@ public class Game {
         return level.getNumMoves();
     }
 
+    /**
+     * Returns the metadata (number, board size and difficulty) of every level of the game, sorted by number.
+     * When the folder has a manifest, the level files are not read.
+     *
+     * @return Unmodifiable list with the metadata of the levels.
+     * @throws LevelException When there is no manifest and some level file cannot be parsed.
+     */
+    public List<LevelInfo> getLevels() throws LevelException {
+        if (levels == null && source != null) {
+            levels = source.getLevels();
+        } else if (levels == null) {
+            List<LevelInfo> infos = new ArrayList<>(maxLevels);
+            for (int numLevel = 1; numLevel <= maxLevels; numLevel++) {
+                LevelTemplate template = getTemplate(numLevel);
+                infos.add(new LevelInfo(numLevel, template.getSize(), template.getDifficulty()));
+            }
+            levels = Collections.unmodifiableList(infos);
+        }
+        return levels;
+    }
+
     /**
      * Indicates if the game is finished (true) or not (false).
      * The game is finished when the attribute "currentLevel" is equals to attribute "maxLevels".
@@ -180,23 +325,149 @@ public class Game {
      * @throws LevelException When there is a level exception/problem.
      */
     public boolean nextLevel() throws LevelException {
-        if (!isFinished()) {
+        NextLevelEvent event = new NextLevelEvent();
+        event.begin();
+        if (isFinished()) {
+            metrics.flush();
+            recordLevelEvent(event, false, NextLevelEvent.OUTCOME_FINISHED);
+            return false;
+        }
+        try {
             increaseCurrentLevel();
             loadLevel();
-            return true;
+        } catch (LevelException | RuntimeException e) {
+            recordLevelEvent(event, false, e.getMessage());
+            throw e;
         }
-        return false;
+        recordLevelEvent(event, true, LevelEvent.OUTCOME_OK);
+        return true;
     }
 
     /**
      * Loads a new level by using the value of attribute "currentLevel".
      *
      * The pattern of the filename is: fileFolder+"level" + numberLevel + ".txt".
+     * Each file is parsed only the first time, later loads copy the cached {@link LevelTemplate}.
      * @throws LevelException When there is a level exception/problem.
      */
     private void loadLevel() throws LevelException {
-        String filename = getFileFolder() + "level" + getCurrentLevel() + ".txt";
-        level = new Level(filename);
+        metrics.flush();
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            level = getTemplate(getCurrentLevel()).newLevel();
+        } catch (LevelException | RuntimeException e) {
+            GameMetrics.recordLevelLoad(System.nanoTime() - start, false);
+            recordLevelEvent(event, false, e.getMessage());
+            throw e;
+        }
+        GameMetrics.recordLevelLoad(System.nanoTime() - start, true);
+        recordLevelEvent(event, true, LevelEvent.OUTCOME_OK);
+        recorder = new ReplayRecorder(getCurrentLevel(), level, true);
+        prefetchNextLevel();
+    }
+
+    /**
+     * Records a Flight Recorder event with the current level, if it has to be recorded.
+     *
+     * @param event Event that has been begun.
+     * @param loaded True if the current level has been loaded, false if no level has been loaded.
+     * @param outcome Outcome of the action.
+     */
+    private void recordLevelEvent(LevelEvent event, boolean loaded, String outcome) {
+        event.setLevel(getCurrentLevel());
+        if (!loaded) {
+            event.record(0, null, 0, outcome);
+        } else {
+            event.record(level.getSize(), level.getDifficulty(), level.getNumMoves(), outcome);
+        }
+    }
+
+    /**
+     * Returns the template of the given level. The level is only loaded the first time.
+     *
+     * @param numLevel Number of the level.
+     * @return Template of the level.
+     * @throws LevelException When there is any error while parsing the level.
+     */
+    private LevelTemplate getTemplate(int numLevel) throws LevelException {
+        LevelTemplate template = templates.get(numLevel);
+        if (template == null) {
+            template = numLevel == prefetchedLevel ? takePrefetched() : readTemplate(numLevel);
+            templates.put(numLevel, template);
+        }
+        return template;
+    }
+
+    /**
+     * Loads the given level from the source or, if there is no source, from its file.
+     *
+     * @param numLevel Number of the level.
+     * @return Template of the level.
+     * @throws LevelException When there is any error while parsing the level.
+     */
+    private LevelTemplate readTemplate(int numLevel) throws LevelException {
+        long start = System.nanoTime();
+        LevelTemplate template = source != null
+                ? source.getTemplate(numLevel) : new LevelTemplate(getLevelFile(numLevel));
+        GameMetrics.recordLevelParse(System.nanoTime() - start);
+        return template;
+    }
+
+    /**
+     * Returns the name of the file of the given level.
+     *
+     * @param numLevel Number of the level.
+     * @return Name of the file of the level.
+     */
+    private String getLevelFile(int numLevel) {
+        return getFileFolder() + "level" + numLevel + ".txt";
+    }
+
+    /**
+     * Starts parsing the level after the current one in the background thread, if the prefetch mode is enabled
+     * and that level has not been parsed yet.
+     */
+    private void prefetchNextLevel() {
+        int numLevel = getCurrentLevel() + 1;
+        if (prefetcher == null || getCurrentLevel() >= maxLevels
+                || templates.containsKey(numLevel) || numLevel == prefetchedLevel) {
+            return;
+        }
+        prefetchedLevel = numLevel;
+        prefetched = prefetcher.submit(() -> readTemplate(numLevel));
+    }
+
+    /**
+     * Waits for the prefetched level and returns it. Any error while parsing it is thrown as it would
+     * have been thrown by parsing the level in the calling thread.
+     *
+     * @return Template of the prefetched level.
+     * @throws LevelException When there was any error while parsing the level.
+     */
+    private LevelTemplate takePrefetched() throws LevelException {
+        int numLevel = prefetchedLevel;
+        Future<LevelTemplate> future = prefetched;
+        prefetched = null;
+        prefetchedLevel = 0;
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof LevelException levelException) {
+                throw levelException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return readTemplate(numLevel);
+        }
     }
 
     /**
@@ -208,7 +479,45 @@ public class Game {
     public boolean isLevelSolved() throws LevelException {
         if(level==null)
             return false;
-        return level.isSolved();
+        if (!metrics.sampleSolved()) {
+            return level.isSolved();
+        }
+        long start = System.nanoTime();
+        boolean solved = level.isSolved();
+        metrics.recordSolved(level.getSize(), System.nanoTime() - start);
+        return solved;
+    }
+
+    /**
+     * Adds the moves and checks counted by this game to the shared metrics of {@link GameMetrics}.<br/>
+     * It is called when the game is finished, and it has to be called as well when the game is left before,
+     * e.g. when a player quits, so that no move is lost.
+     */
+    public void flushMetrics() {
+        metrics.flush();
+    }
+
+    /**
+     * Searches the minimal sequence of moves that solves the current level from its current state.
+     *
+     * @return Solution with the moves (if any) and the statistics of the search, or {@code null} if no level is loaded.
+     */
+    public Solution solve() {
+        if(level==null)
+            return null;
+        return level.solve();
+    }
+
+    /**
+     * Searches the minimal sequence of moves that solves the current level by using the given number of worker threads.
+     *
+     * @param parallelism Number of worker threads. With 1, the search is sequential.
+     * @return Solution with the moves (if any) and the statistics of the search, or {@code null} if no level is loaded.
+     */
+    public Solution solve(int parallelism) {
+        if(level==null)
+            return null;
+        return level.solve(parallelism);
     }
 
     /**
@@ -231,7 +540,31 @@ public class Game {
      * @throws LevelException When the coordinate is invalid.
      */
     public Cell getCell(int row, int col) throws LevelException{
-        return getCell(new Coordinate(row, col));
+        return level.getCell(level.toIndex(row, col));
+    }
+
+    /**
+     * Returns the cell that is in the given position of the board.
+     *
+     * @param index Position of the cell, i.e. row * size + column (see {@link #toIndex(int, int)}).
+     * @return Cell which is in the position "index".
+     * @throws LevelException When the position is out of the board.
+     */
+    public Cell getCell(int index) throws LevelException{
+        return level.getCell(index);
+    }
+
+    /**
+     * Returns the position in the board of the current level of the given (row,col). Positions let the views
+     * work with the board without creating Coordinate objects, e.g. to keep sets of cells in bitsets.
+     *
+     * @param row Row of the cell.
+     * @param col Column of the cell.
+     * @return Position of the cell, i.e. row * size + column.
+     * @throws LevelException When the row or the column is out of the board.
+     */
+    public int toIndex(int row, int col) throws LevelException{
+        return level.toIndex(row, col);
     }
 
     /**
@@ -251,7 +584,14 @@ public class Game {
      * @throws LevelException When any coordinate is incorrect or the swap was unsuccessful.
      */
     public void swap(Coordinate first, Coordinate second) throws LevelException {
-        level.swapCells(first,second);
+        try {
+            level.swapCells(first,second);
+        } catch (LevelException e) {
+            GameMetrics.recordFailedSwap();
+            throw e;
+        }
+        metrics.recordSwap();
+        recorder.recordSwap(toIndex(first), toIndex(second));
     }
 
     /**
@@ -261,7 +601,96 @@ public class Game {
      * @throws LevelException When the coordinate is incorrect or the cell in the coordinate cannot be rotated.
      */
     public void rotate(Coordinate cellCoord) throws LevelException{
-       level.rotateCell(cellCoord);
+        try {
+            level.rotateCell(cellCoord);
+        } catch (LevelException e) {
+            GameMetrics.recordFailedRotation();
+            throw e;
+        }
+        metrics.recordRotation();
+        recorder.recordRotate(toIndex(cellCoord));
+    }
+
+    /**
+     * Swaps the cells that are in the two given positions of the board.
+     *
+     * @param first Position (row * size + column) of the first cell.
+     * @param second Position (row * size + column) of the second cell.
+     * @throws LevelException When any position is out of the board or the swap was unsuccessful.
+     */
+    public void swap(int first, int second) throws LevelException {
+        try {
+            level.swapCells(first, second);
+        } catch (LevelException e) {
+            GameMetrics.recordFailedSwap();
+            throw e;
+        }
+        metrics.recordSwap();
+        recorder.recordSwap(first, second);
+    }
+
+    /**
+     * Rotates the cell which is in the given position of the board.
+     *
+     * @param index Position (row * size + column) of the cell.
+     * @throws LevelException When the position is out of the board or its cell cannot be rotated.
+     */
+    public void rotate(int index) throws LevelException{
+        try {
+            level.rotateCell(index);
+        } catch (LevelException e) {
+            GameMetrics.recordFailedRotation();
+            throw e;
+        }
+        metrics.recordRotation();
+        recorder.recordRotate(index);
+    }
+
+    /**
+     * Undoes the last move of the current level.
+     *
+     * @return True if a move has been undone, false if there was no move to undo.
+     */
+    public boolean undo() {
+        if (!level.undo()) {
+            return false;
+        }
+        recorder.recordUndo();
+        return true;
+    }
+
+    /**
+     * Redoes the last undone move of the current level.
+     *
+     * @return True if a move has been redone, false if there was no move to redo.
+     */
+    public boolean redo() {
+        if (!level.redo()) {
+            return false;
+        }
+        recorder.recordRedo();
+        return true;
+    }
+
+    /**
+     * Returns the recording of the moves done in the current level since it was loaded or reloaded.
+     * It can be played with {@link com.game.model.levels.ReplayPlayer}.
+     *
+     * @return Replay of the current level, with timestamps.
+     * @throws IllegalStateException When no level has been loaded yet, i.e. before the first call to nextLevel().
+     */
+    public Replay getReplay() {
+        if (recorder == null) {
+            throw new IllegalStateException("There is no level to replay before the first call to nextLevel()");
+        }
+        return recorder.toReplay();
+    }
+
+    /**
+     * Returns the position in the board of the current level of a valid coordinate.
+     */
+    private int toIndex(Coordinate coord) {
+        return coord.toIndex(level.getSize());
     }
 
     /**
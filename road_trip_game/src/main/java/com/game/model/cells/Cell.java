@@ -1,14 +1,14 @@
 package com.game.model.cells;
 
-import com.game.model.utils.Coordinate;
-
+/**
+ * Cell of a board. Cells do not know their position: the board supplies the coordinate of a cell when it is needed,
+ * so cells whose type never changes can be shared by all the positions and boards (see {@link CellFactory}).
+ */
 public class Cell {
 
-    private Coordinate coordinate;
     private CellType type;
 
-    public Cell(int row, int column, CellType type) {
-        setCoordinate(row, column);
+    public Cell(CellType type) {
         setType(type);
     }
 
@@ -20,14 +20,6 @@ public class Cell {
         this.type = type;
     }
 
-    public Coordinate getCoordinate() {
-        return coordinate;
-    }
-
-    protected void setCoordinate(int row, int column) {
-        coordinate = new Coordinate(row, column);
-    }
-
     public boolean isMovable() {
         return this instanceof Movable;
     }
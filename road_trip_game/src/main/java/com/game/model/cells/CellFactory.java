@@ -8,20 +8,35 @@ package com.game.model.cells;
 public abstract class CellFactory {
 
     /**
-     * Returns a new object which is the class (Cell, MovableCell or RotatableCell)
+     * Shared cells (flyweights) indexed by the ordinal of their type, or {@code null} for the rotatable types.
+     */
+    private static final Cell[] SHARED_CELLS = new Cell[CellType.values().length];
+
+    static {
+        for (CellType type : CellType.values()) {
+            if (type.isMovable()) {
+                SHARED_CELLS[type.ordinal()] = new MovableCell(type);
+            } else if (!type.isRotatable()) {
+                SHARED_CELLS[type.ordinal()] = new Cell(type);
+            }
+        }
+    }
+
+    /**
+     * Returns an object which is the class (Cell, MovableCell or RotatableCell)
      * that the given CellType indicates.
+     * <br/><br/>
+     * The type of static and movable cells never changes, so there is one shared instance of each of these types.
+     * Rotatable cells change their type when they are rotated, so a new one is returned on each call.
      *
-     * @param row Row of the coordinate/position in which the cell is in the board.
-     * @param column Column of the coordinate/position in which the cell is in the board.
      * @param type Value of the enumeration called CellType that corresponds to the cell.
      * @return Cell object that is related to the "CellType".
      */
-    public static Cell getCellInstance(int row, int column, CellType type){
+    public static Cell getCellInstance(CellType type){
 
-        return switch (type) {
-            case VERTICAL, HORIZONTAL, BOTTOM_RIGHT, BOTTOM_LEFT, TOP_RIGHT, TOP_LEFT, FREE -> new MovableCell(row, column, type);
-            case ROTATABLE_VERTICAL, ROTATABLE_HORIZONTAL -> new RotatableCell(row, column,type);
-            default -> new Cell(row, column, type);
-        };
+        if (type.isRotatable()) {
+            return new RotatableCell(type);
+        }
+        return SHARED_CELLS[type.ordinal()];
     }
 }
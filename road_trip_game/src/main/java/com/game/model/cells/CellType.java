@@ -72,10 +72,27 @@ public enum CellType {
         }
     };
 
+    /**
+     * Lookup table from file symbol to type. Positions of characters that are not a file symbol are {@code null}.
+     */
+    private static final CellType[] BY_FILE_SYMBOL;
+
+    static {
+        char maxSymbol = 0;
+        for (CellType cellType : values()) {
+            maxSymbol = (char) Math.max(maxSymbol, cellType.getFileSymbol());
+        }
+        BY_FILE_SYMBOL = new CellType[maxSymbol + 1];
+        for (CellType cellType : values()) {
+            BY_FILE_SYMBOL[cellType.getFileSymbol()] = cellType;
+        }
+    }
+
     private char fileSymbol;
     private char unicodeRepresentation;
     private String imageSrc;
     private boolean[] connections;
+    private int connectionMask;
 
     CellType(char fileSymbol, char unicodeRepresentation, String imageSrc, boolean[] connections) {
         setFileSymbol(fileSymbol);
@@ -110,6 +127,22 @@ public enum CellType {
 
     private void setConnections(boolean[] connections) {
         this.connections = connections;
+        this.connectionMask = 0;
+        for (int i = 0; i < connections.length; i++) {
+            if (connections[i]) {
+                connectionMask |= 1 << i;
+            }
+        }
+    }
+
+    /**
+     * Returns the connections of this type as a 4-bit mask, where bit i is set
+     * when the direction whose ordinal is i is available.
+     *
+     * @return Bit mask of the available connections.
+     */
+    public int getConnectionMask() {
+        return connectionMask;
     }
 
     public EnumSet<Direction> getAvailableConnections() {
@@ -122,13 +155,35 @@ public enum CellType {
         return directions;
     }
 
+    /**
+     * Indicates if the cells of this type can be swapped with other movable cells.
+     *
+     * @return True if the cells of this type are movable, otherwise false.
+     */
+    public boolean isMovable() {
+        return switch (this) {
+            case VERTICAL, HORIZONTAL, BOTTOM_RIGHT, BOTTOM_LEFT, TOP_RIGHT, TOP_LEFT, FREE -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Indicates if the cells of this type can be rotated.
+     *
+     * @return True if the cells of this type are rotatable, otherwise false.
+     */
+    public boolean isRotatable() {
+        return this == ROTATABLE_VERTICAL || this == ROTATABLE_HORIZONTAL;
+    }
+
+    /**
+     * Returns the type whose file symbol is the given one. It is a direct lookup in {@link #BY_FILE_SYMBOL}.
+     *
+     * @param fileSymbol Symbol used in the level files.
+     * @return Type of the symbol, or {@code null} if no type uses that symbol.
+     */
     public static CellType map2CellType(char fileSymbol) {
-        for (CellType cellType: CellType.values()) {
-            if (fileSymbol == cellType.getFileSymbol()) {
-                return cellType;
-            }
-        }
-        return null;
+        return fileSymbol < BY_FILE_SYMBOL.length ? BY_FILE_SYMBOL[fileSymbol] : null;
     }
 
     public abstract CellType next();
@@ -1,9 +1,9 @@
 package com.game.model.cells;
 
-import com.game.model.utils.Coordinate;
-
+/**
+ * Marker of the cells that can be swapped with other movable cells. Moving a cell does not change it,
+ * since the position of a cell is given by the board.
+ */
 public interface Movable {
 
-    void move(Coordinate destination);
-
 }
@@ -1,11 +1,9 @@
 package com.game.model.cells;
 
-import com.game.model.utils.Coordinate;
-
 public class MovableCell extends Cell implements Movable{
 
-    public MovableCell(int row, int column, CellType type) {
-        super(row, column, type);
+    public MovableCell(CellType type) {
+        super(type);
     }
 
     @Override
@@ -18,9 +16,4 @@ public class MovableCell extends Cell implements Movable{
         return false;
     }
 
-    @Override
-    public void move(Coordinate destination) {
-        setCoordinate(destination.getRow(), destination.getColumn());
-    }
-
 }
@@ -2,8 +2,8 @@ package com.game.model.cells;
 
 public class RotatableCell extends Cell implements Rotatable {
 
-    public RotatableCell(int row, int column, CellType type) {
-        super(row, column, type);
+    public RotatableCell(CellType type) {
+        super(type);
     }
 
     @Override
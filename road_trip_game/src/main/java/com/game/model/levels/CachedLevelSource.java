@@ -0,0 +1,71 @@
+package com.game.model.levels;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Level source that loads each level of another source only once. The templates are immutable,
+ * so they are shared by all the games that read the source.
+ *
+ * @version 1.0
+ */
+final class CachedLevelSource implements LevelSource {
+
+    private final LevelSource source;
+
+    /**
+     * Templates of the levels that have been loaded, by number of level.
+     */
+    private final Map<Integer, LevelTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param source Source of the levels.
+     */
+    CachedLevelSource(LevelSource source) {
+        this.source = source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumLevels() {
+        return source.getNumLevels();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The level is only loaded the first time, and all the threads get the same template.
+     */
+    @Override
+    public LevelTemplate getTemplate(int numLevel) throws LevelException {
+        LevelTemplate template = templates.get(numLevel);
+        if (template == null) {
+            template = source.getTemplate(numLevel);
+            LevelTemplate previous = templates.putIfAbsent(numLevel, template);
+            if (previous != null) {
+                template = previous;
+            }
+        }
+        return template;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LevelInfo getInfo(int numLevel) throws LevelException {
+        return source.getInfo(numLevel);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LevelInfo> getLevels() throws LevelException {
+        return source.getLevels();
+    }
+}
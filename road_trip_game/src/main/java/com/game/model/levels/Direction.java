@@ -11,6 +11,11 @@ public enum Direction {
     private final int dColumn;
     private final int opposite;
 
+    /**
+     * Cached values of the enumeration, so that lookups by index do not clone {@code values()}.
+     */
+    private static final Direction[] VALUES = values();
+
     Direction(int dRow, int dColumn, int opposite) {
         this.dRow = dRow;
         this.dColumn = dColumn;
@@ -18,7 +23,7 @@ public enum Direction {
     }
 
     public static Direction getValueByIndex(int index) {
-        return Direction.values()[index];
+        return VALUES[index];
     }
 
     public int getDRow() {
@@ -30,6 +35,6 @@ public enum Direction {
     }
 
     public Direction getOpposite() {
-        return Direction.values()[opposite];
+        return VALUES[opposite];
     }
 }
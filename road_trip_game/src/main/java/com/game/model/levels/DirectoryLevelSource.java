@@ -0,0 +1,104 @@
+package com.game.model.levels;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Source of levels that reads the files "levelN.txt" of a folder of the file system, so that new levels
+ * can be deployed without rebuilding the game. If the folder has a manifest (see {@link LevelManifest}),
+ * the number of levels and their metadata are read from it. Otherwise, the level files of the folder are counted.
+ *
+ * @version 1.0
+ */
+public final class DirectoryLevelSource implements LevelSource {
+
+    /**
+     * Folder of the level files.
+     */
+    private final Path folder;
+
+    private final int numLevels;
+
+    /**
+     * Metadata of the levels read from the manifest, or {@code null} if the folder has no manifest.
+     */
+    private final List<LevelInfo> manifest;
+
+    /**
+     * Constructor
+     *
+     * @param folder Folder of the level files.
+     * @throws IOException When the folder or its manifest cannot be read.
+     */
+    public DirectoryLevelSource(Path folder) throws IOException {
+        this.folder = Objects.requireNonNull(folder);
+
+        Path manifestFile = folder.resolve(LevelManifest.FILE_NAME);
+        if (Files.isRegularFile(manifestFile)) {
+            try (InputStream inputStream = Files.newInputStream(manifestFile)) {
+                manifest = LevelManifest.read(inputStream);
+            }
+            numLevels = manifest.size();
+        } else {
+            manifest = null;
+            int count = 0;
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(folder, "level*.txt")) {
+                for (Path file : files) {
+                    if (file.getFileName().toString().matches("level\\d+\\.txt")) {
+                        count++;
+                    }
+                }
+            }
+            numLevels = count;
+        }
+    }
+
+    public Path getFolder() {
+        return folder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumLevels() {
+        return numLevels;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LevelTemplate getTemplate(int numLevel) throws LevelException {
+        Objects.checkIndex(numLevel - 1, numLevels);
+        try {
+            return new LevelTemplate(Level.fromPath(folder.resolve("level" + numLevel + ".txt")));
+        } catch (IOException e) {
+            throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LevelInfo getInfo(int numLevel) throws LevelException {
+        if (manifest == null) {
+            return LevelSource.super.getInfo(numLevel);
+        }
+        return manifest.get(numLevel - 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LevelInfo> getLevels() throws LevelException {
+        return manifest != null ? manifest : LevelSource.super.getLevels();
+    }
+}
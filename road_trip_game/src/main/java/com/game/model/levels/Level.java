@@ -1,15 +1,19 @@
 package com.game.model.levels;
 
 import com.game.model.cells.*;
+import com.game.model.metrics.LevelEvent;
+import com.game.model.metrics.MoveEvent;
+import com.game.model.metrics.SolvedCheckEvent;
 import com.game.model.utils.Coordinate;
-import com.game.model.cells.*;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
-import java.util.EnumSet;
 import java.util.Objects;
-import java.util.stream.Stream;
 
 /**
  * Class that represents each level of the game.
@@ -30,20 +34,83 @@ public class Level {
     private LevelDifficulty difficulty;
 
     /**
-     * Representation of the board.
+     * Representation of the board. Each position (row * size + column) stores the ordinal of the CellType
+     * that is in that position.
+     */
+    private byte[] board;
+
+    /**
+     * Rotatable cells that have been handed out by {@link #getCell(Coordinate)}. They are created on demand and
+     * rotated with the board. Rotatable cells never move, and the other cells are shared flyweights that do not
+     * depend on their position, so nothing has to be kept in sync when cells are swapped.
+     */
+    private Cell[] cells;
+
+    /**
+     * Position in the attribute "board" of the START cell. Static cells never move, so it is computed once.
+     */
+    private int startIndex;
+
+    /**
+     * Route that leaves the START cell. It is updated after every move, so checking
+     * if the level is solved does not need to walk the board.
+     */
+    private Route route;
+
+    /**
+     * True while the attributes "board" and "route" are those of a level that is never modified (the prototype of a
+     * {@link LevelTemplate}), i.e. until the first move. They are copied before the first write, so a level that has
+     * not been played only takes a few objects, whatever the size of its board.
      */
-    private Cell[][] board;
+    private boolean shared = false;
 
     /**
      * Number of moves that the player has made so far.
      */
     private int numMoves = 0;
 
+    /**
+     * Moves that can be undone (positions 0 to historyPosition - 1) and redone (from historyPosition to historySize - 1).
+     * Each move is stored as {@code from << 16 | to}, or as two ints (from, to) when the board has more than
+     * {@link #PACKED_MOVE_CELLS} cells. A rotation is stored with from == to. It is {@code null} until the first move.
+     */
+    private int[] history;
+
+    /**
+     * Number of used ints of the attribute "history".
+     */
+    private int historySize = 0;
+
+    /**
+     * Position in the attribute "history" of the next move to redo.
+     */
+    private int historyPosition = 0;
+
     /**
      * Minimum value that must be assigned to the attribute "size".
      */
     private static final int MINIMUM_BOARD_SIZE = 3;
 
+    /**
+     * Size (in bytes) from which level files are memory-mapped instead of read by {@link #fromPath(Path)}.
+     */
+    private static final int MAPPED_FILE_SIZE = 1 << 20;
+
+    /**
+     * Maximum number of cells of a board whose moves are packed in one int of the history, i.e. boards up to 256x256.
+     */
+    private static final int PACKED_MOVE_CELLS = 1 << 16;
+
+    /**
+     * Initial capacity of the history of moves.
+     */
+    private static final int INITIAL_HISTORY_CAPACITY = 16;
+
+    /**
+     * Cached values of CellType, indexed by ordinal.
+     */
+    private static final CellType[] TYPES = CellType.values();
+
     /**
      * Constructor
      *
@@ -55,17 +122,191 @@ public class Level {
         parse(fileName);
     }
 
+    /**
+     * Constructor of a level that is read by the given parser.
+     *
+     * @param parser Parser of the level.
+     * @throws LevelException When there is any error while parsing the level.
+     */
+    private Level(LevelParser parser) throws LevelException {
+        setNumMoves(0);
+        load(parser);
+    }
+
+    /**
+     * Reads a level from a file of the file system. Big files are memory-mapped instead of read.
+     *
+     * @param path Path of the level file.
+     * @return Level of the file.
+     * @throws IOException When the file cannot be read.
+     * @throws LevelException When there is any error while parsing the file.
+     */
+    public static Level fromPath(Path path) throws IOException, LevelException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() >= MAPPED_FILE_SIZE) {
+                return fromBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            return fromBuffer(buffer.flip());
+        }
+    }
+
+    /**
+     * Reads a level from the given reader, which is not closed.
+     *
+     * @param reader Reader of the text of the level.
+     * @return Level of the text.
+     * @throws LevelException When there is any error while reading or parsing the text.
+     */
+    public static Level fromReader(Reader reader) throws LevelException {
+        return new Level(new LevelParser(reader));
+    }
+
+    /**
+     * Reads a level from the given stream of UTF-8 text, which is not closed.
+     *
+     * @param inputStream Stream of the text of the level.
+     * @return Level of the text.
+     * @throws LevelException When there is any error while reading or parsing the text.
+     */
+    public static Level fromStream(InputStream inputStream) throws LevelException {
+        return fromReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a level from the UTF-8 text between the position and the limit of the given buffer
+     * (e.g. a memory-mapped file). The text is decoded directly from the buffer, whose position is not modified.
+     *
+     * @param buffer Buffer with the text of the level.
+     * @return Level of the text.
+     * @throws LevelException When there is any error while parsing the text.
+     */
+    public static Level fromBuffer(ByteBuffer buffer) throws LevelException {
+        return new Level(new LevelParser(buffer.duplicate()));
+    }
+
+    /**
+     * Constructor of a level whose data has already been parsed and validated (e.g. by a {@link LevelPack}).
+     *
+     * @param size Size of the board.
+     * @param difficulty Difficulty of the level.
+     * @param board Board as an array of CellType ordinals in row-major order. The level keeps the array.
+     * @param startIndex Position in the board of the START cell.
+     */
+    Level(int size, LevelDifficulty difficulty, byte[] board, int startIndex) {
+        this.size = size;
+        this.difficulty = difficulty;
+        this.board = board;
+        this.startIndex = startIndex;
+        this.route = new Route(board, size, startIndex);
+    }
+
+    /**
+     * Copy constructor. Only the board is copied, so the cost does not depend on
+     * the cells that have been requested from the original level.
+     *
+     * @param level Level to copy.
+     * @param share True to share the board and the route of the given level instead of copying them.
+     */
+    private Level(Level level, boolean share) {
+        this.size = level.size;
+        this.difficulty = level.difficulty;
+        this.board = share ? level.board : level.board.clone();
+        this.startIndex = level.startIndex;
+        this.route = share ? level.route : level.route.copy();
+        this.shared = share;
+        this.numMoves = level.numMoves;
+        if (level.history != null) {
+            this.history = Arrays.copyOf(level.history, Math.max(level.historySize, INITIAL_HISTORY_CAPACITY));
+            this.historySize = level.historySize;
+            this.historyPosition = level.historyPosition;
+        }
+    }
+
+    /**
+     * Returns an independent copy of this level, including the moves done so far.
+     *
+     * @return Copy of this level.
+     */
+    public Level copy() {
+        //A level that still shares its board can keep sharing it, since the shared board is never modified
+        return new Level(this, shared);
+    }
+
+    /**
+     * Returns a level in the same state as this one that shares its board and its route until its first move.
+     * This level must not be modified anymore.
+     *
+     * @return Copy of this level.
+     */
+    Level share() {
+        return new Level(this, true);
+    }
+
+    /**
+     * Copies the shared board and route before they are modified for the first time.
+     */
+    private void ensureOwned() {
+        if (shared) {
+            board = board.clone();
+            route = route.copy();
+            shared = false;
+        }
+    }
+
+    /**
+     * Puts this level back in the state of the given one, reusing its arrays (e.g. to play many move lists on the same
+     * level without allocating a new board for each one). A level that has not been modified just shares the board
+     * of the given one again. The history of moves is discarded.
+     *
+     * @param level Level without moves, of the same size as this one, that is never modified.
+     * @throws IllegalArgumentException When the sizes of the levels are different.
+     */
+    void reset(Level level) {
+        if (level.board.length != board.length) {
+            throw new IllegalArgumentException("The levels must have the same size");
+        }
+        this.size = level.size;
+        this.difficulty = level.difficulty;
+        if (shared) {
+            this.board = level.board;
+            this.route = level.route;
+        } else {
+            System.arraycopy(level.board, 0, board, 0, board.length);
+            this.route.copyFrom(level.route);
+        }
+        this.cells = null;
+        this.startIndex = level.startIndex;
+        this.numMoves = level.numMoves;
+        this.historySize = 0;
+        this.historyPosition = 0;
+    }
+
     public int getSize() {
         return size;
     }
 
     private void setSize(int size) throws LevelException {
-        if (size < 3) {
+        if (size < MINIMUM_BOARD_SIZE) {
             throw new LevelException(LevelException.ERROR_BOARD_SIZE);
         }
         this.size = size;
     }
 
+    /**
+     * Returns the minimum size of a board, so that every class of the package checks the same limit.
+     *
+     * @return Minimum value of the attribute "size".
+     */
+    static int getMinimumBoardSize() {
+        return MINIMUM_BOARD_SIZE;
+    }
+
     public LevelDifficulty getDifficulty() {
         return difficulty;
     }
@@ -91,215 +332,404 @@ public class Level {
      * or some board's requirement is not satisfied.
      */
     private void parse(String fileName) throws LevelException{
-        boolean isStarting = false;
-        boolean isFinish = false;
-        String line;
-
         ClassLoader classLoader = getClass().getClassLoader();
         InputStream inputStream = Objects.requireNonNull(classLoader.getResourceAsStream(fileName));
 
-        try(InputStreamReader streamReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-            BufferedReader reader = new BufferedReader(streamReader)){
+        try(Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)){
+            load(new LevelParser(reader));
+        }catch (IOException e){
+            throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
+        }
+    }
 
-            line = getFirstNonEmptyLine(reader);
+    /**
+     * Parses the level with the given parser and initializes the board and the route.
+     *
+     * @param parser Parser of the level.
+     * @throws LevelException When there is any error while parsing the level
+     * or some board's requirement is not satisfied.
+     */
+    private void load(LevelParser parser) throws LevelException {
+        parser.parse();
+
+        setSize(parser.getSize());
+        setDifficulty(parser.getDifficulty());
+        board = parser.getBoard();
+        startIndex = parser.getStartIndex();
+        route = new Route(board, getSize(), startIndex);
+    }
 
-            if (line  != null) {
-                setSize(Integer.parseInt(line));
-            }
+    private boolean validatePosition(Coordinate coord) {
+        return (coord != null) && validatePosition(coord.getRow(), coord.getColumn());
+    }
 
-            line = getFirstNonEmptyLine(reader);
+    private boolean validatePosition(int row, int column) {
+        return (row >= 0) && (row < size) && (column >= 0) && (column < size);
+    }
 
-            if (line != null) {
-                setDifficulty(LevelDifficulty.valueOf(line));
-            }
+    /**
+     * Returns the position in the attribute "board" of the given coordinate.
+     *
+     * @param coord Coordinate to convert.
+     * @return Index of the coordinate, i.e. row * size + column.
+     * @throws LevelException When the coordinate is invalid.
+     */
+    private int toIndex(Coordinate coord) throws LevelException {
+        if (!validatePosition(coord)) {
+            throw new LevelException(LevelException.ERROR_COORDINATE);
+        }
+        return coord.toIndex(size);
+    }
 
-            board = new Cell[getSize()][getSize()];
+    /**
+     * Returns the position in the board of the given row and column. Positions are the primitive equivalent of
+     * {@link Coordinate}s, accepted by {@link #getCell(int)}, {@link #swapCells(int, int)} and {@link #rotateCell(int)}.
+     *
+     * @param row Row of the cell.
+     * @param column Column of the cell.
+     * @return Index of the cell, i.e. row * size + column.
+     * @throws LevelException When the row or the column is out of the board.
+     */
+    public int toIndex(int row, int column) throws LevelException {
+        if (!validatePosition(row, column)) {
+            throw new LevelException(LevelException.ERROR_COORDINATE);
+        }
+        return row * size + column;
+    }
 
-            for (int row = 0; row < getSize(); row++) {
-                char[] rowChar = Objects.requireNonNull(getFirstNonEmptyLine(reader)).toCharArray();
-                for (int column = 0; column < getSize(); column++) {
-                    board[row][column] = CellFactory.getCellInstance(row, column,
-                            Objects.requireNonNull(CellType.map2CellType(rowChar[column])));
-                }
-            }
+    public Cell getCell(Coordinate coord) throws LevelException {
+        return getCell(toIndex(coord));
+    }
 
-        }catch (IllegalArgumentException | IOException e){
-            throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
+    /**
+     * Returns the cell of a position of the board, like {@link #getCell(Coordinate)}.
+     *
+     * @param index Index (row * size + column) of the cell.
+     * @return Cell in that position.
+     * @throws LevelException When the index is out of the board.
+     */
+    public Cell getCell(int index) throws LevelException {
+        if (index < 0 || index >= board.length) {
+            throw new LevelException(LevelException.ERROR_COORDINATE);
+        }
+        CellType type = TYPES[board[index]];
+        if (!type.isRotatable()) {
+            return CellFactory.getCellInstance(type);
+        }
+        if (cells == null) {
+            cells = new Cell[board.length];
+        }
+        if (cells[index] == null) {
+            cells[index] = CellFactory.getCellInstance(type);
         }
+        return cells[index];
+    }
 
-        //Check if there is one starting cell, one finish cell and, at least, any other type of cell.
-        for(var j =0; j<getSize(); j++){
+    /**
+     * Returns a copy of the board in which each cell is represented by the ordinal of its type (row-major order).
+     *
+     * @return Array of size x size CellType ordinals.
+     */
+    byte[] getTypes() {
+        return board.clone();
+    }
 
-            if(getCell(new Coordinate(getSize()-1,j)).getType() == CellType.START){
-                isStarting = true;
-            }
+    public void swapCells(Coordinate firstCoord, Coordinate secondCoord) throws LevelException {
+        swapCells(toIndexOrInvalid(firstCoord), toIndexOrInvalid(secondCoord));
+    }
 
-            if(getCell(new Coordinate(0,j)).getType() == CellType.FINISH){
-                isFinish = true;
-            }
-        }
+    public void rotateCell(Coordinate coord) throws LevelException {
+        rotateCell(toIndexOrInvalid(coord));
+    }
 
-        //Checks if there are more than one starting cell
-        if(Stream.of(board).flatMap(Arrays::stream).filter(x -> x.getType() == CellType.START).count()>1){
-            throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
-        }
+    /**
+     * Returns the position in the attribute "board" of the given coordinate, or -1 if it is invalid, so that
+     * the moves with coordinates fail (and are recorded) as the moves with invalid positions.
+     */
+    private int toIndexOrInvalid(Coordinate coord) {
+        return validatePosition(coord) ? coord.toIndex(size) : -1;
+    }
 
-        //Checks if there are more than one finish cell
-        if(Stream.of(board).flatMap(Arrays::stream).filter(x -> x.getType() == CellType.FINISH).count()>1){
-            throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
+    /**
+     * Swaps the cells of two positions of the board, with the same rules as {@link #swapCells(Coordinate, Coordinate)}.
+     *
+     * @param first Index (row * size + column) of the first cell.
+     * @param second Index (row * size + column) of the second cell.
+     * @throws LevelException When any index is out of the board or its cell is not movable.
+     */
+    public void swapCells(int first, int second) throws LevelException {
+        MoveEvent event = new MoveEvent(MoveEvent.SWAP, first, second);
+        event.begin();
+        String outcome = LevelEvent.OUTCOME_OK;
+        try {
+            checkMovable(first);
+            checkMovable(second);
+            swap(first, second);
+            record(first, second);
+            setNumMoves(getNumMoves() + 1);
+        } catch (LevelException e) {
+            outcome = e.getMessage();
+            throw e;
+        } finally {
+            event.record(size, difficulty, numMoves, outcome);
         }
+    }
 
-        if(!isStarting){
-            throw new LevelException(LevelException.ERROR_NO_STARTING);
+    private void checkMovable(int index) throws LevelException {
+        if (index < 0 || index >= board.length) {
+            throw new LevelException(LevelException.ERROR_COORDINATE);
         }
-
-        if(!isFinish){
-            throw new LevelException(LevelException.ERROR_NO_FINISH);
+        if (!TYPES[board[index]].isMovable()) {
+            throw new LevelException(LevelException.ERROR_NO_MOVABLE_CELL);
         }
+    }
 
-        //Checks if there is one road (i.e. movable or rotatable cell) at least.
-        if(Stream.of(board).flatMap(Arrays::stream).noneMatch(x -> x.isMovable() || x.isRotatable())){
-            throw new LevelException(LevelException.ERROR_NO_ROAD);
+    /**
+     * Rotates the cell of a position of the board, with the same rules as {@link #rotateCell(Coordinate)}.
+     *
+     * @param index Index (row * size + column) of the cell.
+     * @throws LevelException When the index is out of the board or its cell is not rotatable.
+     */
+    public void rotateCell(int index) throws LevelException {
+        MoveEvent event = new MoveEvent(MoveEvent.ROTATE, index, index);
+        event.begin();
+        String outcome = LevelEvent.OUTCOME_OK;
+        try {
+            if (index < 0 || index >= board.length) {
+                throw new LevelException(LevelException.ERROR_COORDINATE);
+            }
+            if (!TYPES[board[index]].isRotatable()) {
+                throw new LevelException(LevelException.ERROR_NO_ROTATABLE_CELL);
+            }
+            rotate(index);
+            record(index, index);
+            setNumMoves(getNumMoves() + 1);
+        } catch (LevelException e) {
+            outcome = e.getMessage();
+            throw e;
+        } finally {
+            event.record(size, difficulty, numMoves, outcome);
         }
-
     }
 
     /**
-     * This a helper method for {@link #parse(String fileName)} which returns
-     * the first non-empty and non-comment line from the reader.
+     * Undoes the last move that has not been undone yet. The number of moves is decreased by one.
      *
-     * @param br BufferedReader object to read from.
-     * @return First line that is a parsable line, or {@code null} there are no lines to read.
-     * @throws IOException if the reader fails to read a line.
+     * @return True if a move has been undone, false if there was no move to undo.
      */
-    private String getFirstNonEmptyLine(final BufferedReader br) throws IOException {
-        do {
+    public boolean undo() {
+        if (!canUndo()) {
+            return false;
+        }
+        int stride = getHistoryStride();
+        historyPosition -= stride;
+        apply(historyPosition, stride);
+        setNumMoves(getNumMoves() - 1);
+        return true;
+    }
 
-            String s = br.readLine();
+    /**
+     * Redoes the last undone move. The number of moves is increased by one.
+     *
+     * @return True if a move has been redone, false if there was no move to redo.
+     */
+    public boolean redo() {
+        if (!canRedo()) {
+            return false;
+        }
+        int stride = getHistoryStride();
+        apply(historyPosition, stride);
+        historyPosition += stride;
+        setNumMoves(getNumMoves() + 1);
+        return true;
+    }
 
-            if (s == null) {
-                return null;
-            }
-            if (s.isBlank() || s.startsWith("#")) {
-                continue;
-            }
+    public boolean canUndo() {
+        return historyPosition > 0;
+    }
 
-            return s;
-        } while (true);
+    public boolean canRedo() {
+        return historyPosition < historySize;
     }
 
-    private boolean validatePosition(Coordinate coord) {
-        return (coord != null) && (coord.getRow() >= 0) && (coord.getRow() < size)
-                && (coord.getColumn() >= 0) && (coord.getColumn() < size);
+    /**
+     * Swaps the content of two positions of the board and updates the route.
+     */
+    private void swap(int first, int second) {
+        ensureOwned();
+        byte type = board[first];
+        board[first] = board[second];
+        board[second] = type;
+        route.update(board, size, first, second);
     }
 
-    public Cell getCell(Coordinate coord) throws LevelException {
-        if (!validatePosition(coord)) {
-            throw new LevelException(LevelException.ERROR_COORDINATE);
+    /**
+     * Rotates the cell of a position of the board and updates its cell and the route.
+     */
+    private void rotate(int index) {
+        ensureOwned();
+        board[index] = (byte) TYPES[board[index]].next().ordinal();
+        if (cells != null && cells[index] != null) {
+            ((RotatableCell) cells[index]).rotate();
         }
-        return board[coord.getRow()][coord.getColumn()];
+        route.update(board, size, index, index);
     }
 
-    private void setCell(Coordinate coord, Cell cell) throws LevelException {
-        if (cell == null || !validatePosition(coord)) {
-            throw new LevelException(LevelException.ERROR_COORDINATE);
+    /**
+     * Applies the move stored at the given position of the history. Both moves are their own inverse: swapping
+     * two cells again restores them, and rotatable cells only have two orientations. Rotatable cells never move,
+     * so a move on a rotatable cell is a rotation and any other move is a swap.
+     */
+    private void apply(int position, int stride) {
+        int from;
+        int to;
+        if (stride == 1) {
+            from = history[position] >>> 16;
+            to = history[position] & 0xFFFF;
+        } else {
+            from = history[position];
+            to = history[position + 1];
+        }
+        if (from == to && TYPES[board[from]].isRotatable()) {
+            rotate(from);
+        } else {
+            swap(from, to);
         }
-        board[coord.getRow()][coord.getColumn()] = cell;
     }
 
-    public void swapCells(Coordinate firstCoord, Coordinate secondCoord) throws LevelException {
-        if (!getCell(firstCoord).isMovable() || !getCell(secondCoord).isMovable()) {
-            throw new LevelException(LevelException.ERROR_NO_MOVABLE_CELL);
+    /**
+     * Adds a move to the history. The moves that had been undone cannot be redone anymore.
+     */
+    private void record(int from, int to) {
+        int stride = getHistoryStride();
+        historySize = historyPosition;
+        if (history == null) {
+            history = new int[INITIAL_HISTORY_CAPACITY];
+        } else if (historySize + stride > history.length) {
+            history = Arrays.copyOf(history, history.length * 2);
         }
-        Cell cellToMove = getCell(firstCoord);
-        ((MovableCell) getCell(firstCoord)).move(secondCoord);
-        ((MovableCell) getCell(secondCoord)).move(firstCoord);
-        setCell(firstCoord, getCell(secondCoord));
-        setCell(secondCoord, cellToMove);
-        setNumMoves(getNumMoves() + 1);
+        if (stride == 1) {
+            history[historySize++] = from << 16 | to;
+        } else {
+            history[historySize++] = from;
+            history[historySize++] = to;
+        }
+        historyPosition = historySize;
     }
 
-    public void rotateCell(Coordinate coord) throws LevelException {
-        if (!getCell(coord).isRotatable()) {
-            throw new LevelException(LevelException.ERROR_NO_ROTATABLE_CELL);
-        }
-        ((RotatableCell) getCell(coord)).rotate();
-        setNumMoves(getNumMoves() + 1);
+    /**
+     * Returns the number of ints that each move takes in the history.
+     */
+    private int getHistoryStride() {
+        return board.length <= PACKED_MOVE_CELLS ? 1 : 2;
     }
 
+    /**
+     * Checks if the level is solved, i.e. the route that leaves the starting cell reaches the finish cell.
+     *
+     * @return True if the level is solved, otherwise false.
+     * @throws LevelException When there is a level exception/problem.
+     */
     public boolean isSolved() throws LevelException {
+        SolvedCheckEvent event = new SolvedCheckEvent();
+        event.begin();
+        boolean solved = route.isSolved();
+        event.record(size, difficulty, numMoves,
+                solved ? SolvedCheckEvent.OUTCOME_SOLVED : SolvedCheckEvent.OUTCOME_UNSOLVED);
+        return solved;
+    }
 
-        int columnToContinue;
-        int rowToContinue;
-        Coordinate coordinateToContinue;
+    /**
+     * Returns the number of cells of the route that leaves the starting cell, including the starting cell
+     * (and the finish cell when the level is solved).
+     *
+     * @return Length of the route.
+     */
+    public int getRouteLength() {
+        return route.getLength();
+    }
 
-        boolean solved = false;
+    /**
+     * Returns the coordinate of the cell that the route points at but does not connect with.
+     * It is the only cell outside the route that can extend it.
+     *
+     * @return Coordinate of the frontier, or {@code null} if the route points out of the board or the level is solved.
+     */
+    public Coordinate getRouteFrontier() {
+        int frontier = route.getFrontier();
+        return frontier == Route.NO_FRONTIER ? null : Coordinate.fromIndex(frontier, size);
+    }
 
-        // First cell will always be start type. Left direction will not interfere as initial value with the checking.
-        Direction direction = Direction.LEFT;
-        Cell currentCell = null;
-        EnumSet<Direction> availableConnections;
+    /**
+     * Searches the minimal sequence of moves that solves the level from its current state.
+     * The level is not modified.
+     *
+     * @return Solution with the moves (if any) and the statistics of the search.
+     */
+    public Solution solve() {
+        return new LevelSolver().solve(this);
+    }
 
-        //Find the start cell in the board
-        //(It has been verified when loading that it exists, so it can't be null after assignment).
-        for (int i = 0; i < getSize(); i++) {
-            if (board[getSize() - 1][i].getType() == CellType.START) {
-                currentCell = board[getSize() - 1][i];
-                break;
-            }
+    /**
+     * Searches the minimal sequence of moves that solves the level from its current state
+     * by using the given number of worker threads. The level is not modified.
+     *
+     * @param parallelism Number of worker threads. With 1, the search is sequential.
+     * @return Solution with the moves (if any) and the statistics of the search.
+     */
+    public Solution solve(int parallelism) {
+        if (parallelism <= 1) {
+            return solve();
         }
-
-        while (!solved) {
-
-            availableConnections = currentCell.getType().getAvailableConnections();
-            //Removes previous direction to avoid going back and gets the other one as new direction.
-            availableConnections.remove(direction);
-            direction = availableConnections.iterator().next();
-
-            //calculates the coordinate of the piece where we can move in the selected direction.
-            rowToContinue = currentCell.getCoordinate().getRow() + direction.getDRow();
-            columnToContinue = currentCell.getCoordinate().getColumn() + direction.getDColumn();
-            coordinateToContinue = new Coordinate(rowToContinue, columnToContinue);
-
-            /*validates the coordinate and if it is valid checks if the opposite direction is available
-            in the piece on this coordinate to move.If the cell we move on is the finish one the game is solved.*/
-            if (validatePosition(coordinateToContinue)) {
-                currentCell = getCell(coordinateToContinue);
-                availableConnections = currentCell.getType().getAvailableConnections();
-                    if (availableConnections.contains(direction.getOpposite())) {
-                        direction = direction.getOpposite();
-                        if (currentCell.getType() == CellType.FINISH) {
-                            solved = true;
-                        }
-                    } else {
-                        break;
-                    }
-            } else {
-                break;
-            }
+        try (ParallelLevelSolver solver = new ParallelLevelSolver(parallelism)) {
+            return solver.solve(this);
         }
-
-        return solved;
     }
 
+    /**
+     * Returns a 64-bit FNV-1a hash of the size, the difficulty and the current board of the level.
+     * Levels created from the same template have the same hash until a move is done.
+     *
+     * @return Hash of the state of the level.
+     */
+    long hash() {
+        long hash = 0xcbf29ce484222325L;
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash = (hash ^ ((size >>> shift) & 0xFF)) * 0x100000001b3L;
+        }
+        hash = (hash ^ difficulty.ordinal()) * 0x100000001b3L;
+        for (byte type : board) {
+            hash = (hash ^ type) * 0x100000001b3L;
+        }
+        return hash;
+    }
 
     @Override
     public String toString() {
-        char[] alphabet = "abcdefghijklmnopqrstuvwxyz".toCharArray();
-
         StringBuilder result = new StringBuilder();
         for (int i = 1; i <= size; i++) {
             result.append(String.format("%d", i));
         }
         result.append(System.lineSeparator());
         for (int i = 0; i < size; i++) {
-            result.append(alphabet[i]).append("|");
+            appendRowLabel(result, i);
+            result.append("|");
             for (int j = 0; j < size; j++) {
-                result.append(board[i][j].toString());
+                result.append(TYPES[board[i * size + j]].getUnicodeRepresentation());
             }
             result.append(System.lineSeparator());
         }
         return result.toString();
     }
 
+    /**
+     * Appends the label of a row: "a" to "z" and, in boards of more than 26 rows, "aa", "ab"... after them.
+     */
+    private static void appendRowLabel(StringBuilder result, int row) {
+        if (row >= 26) {
+            appendRowLabel(result, row / 26 - 1);
+        }
+        result.append((char) ('a' + row % 26));
+    }
+
 }
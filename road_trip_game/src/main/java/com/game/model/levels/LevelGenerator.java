@@ -0,0 +1,243 @@
+package com.game.model.levels;
+
+import com.game.model.cells.CellType;
+
+import java.util.Random;
+
+/**
+ * Procedural generator of levels that are guaranteed to be solvable.<br/>
+ * It first builds a road from the START cell (last row) to the FINISH cell (first row) with the road pieces of
+ * {@link CellType}, fills the rest of the board with MOUNTAINS, RIVER and FREE cells, and then scrambles the board
+ * with legal swaps and rotations. Since every move can be undone, the level can always be solved with,
+ * at most, as many moves as were used to scramble it.
+ *
+ * @version 1.0
+ */
+public class LevelGenerator {
+
+    /**
+     * Probability that a straight piece of the road is rotatable instead of movable.
+     */
+    private static final double ROTATABLE_PROBABILITY = 0.25;
+
+    /**
+     * Cached values of CellType.
+     */
+    private static final CellType[] TYPES = CellType.values();
+
+    /**
+     * Source of randomness of the generator.
+     */
+    private final Random random;
+
+    /**
+     * Constructor
+     *
+     * @param seed Seed of the generator. The same seed always generates the same sequence of levels.
+     */
+    public LevelGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Returns the size of the board used for the given difficulty.
+     *
+     * @param difficulty Difficulty of the level.
+     * @return Size of the board, i.e. size x size.
+     */
+    public static int getBoardSize(LevelDifficulty difficulty) {
+        return switch (difficulty) {
+            case STARTER -> 3;
+            case JUNIOR, EXPERT -> 4;
+            case MASTER, WIZARD -> 5;
+        };
+    }
+
+    /**
+     * Returns the number of moves used to scramble a level of the given difficulty.
+     *
+     * @param difficulty Difficulty of the level.
+     * @return Scramble depth.
+     */
+    public static int getScrambleDepth(LevelDifficulty difficulty) {
+        return switch (difficulty) {
+            case STARTER -> 1;
+            case JUNIOR -> 2;
+            case EXPERT -> 3;
+            case MASTER -> 4;
+            case WIZARD -> 6;
+        };
+    }
+
+    /**
+     * Generates the text of a level of the given difficulty, with the board size and scramble depth
+     * given by {@link #getBoardSize(LevelDifficulty)} and {@link #getScrambleDepth(LevelDifficulty)}.
+     *
+     * @param difficulty Difficulty of the level.
+     * @return Text of the level in the format of the level files.
+     */
+    public String generate(LevelDifficulty difficulty) {
+        return generate(getBoardSize(difficulty), difficulty, getScrambleDepth(difficulty));
+    }
+
+    /**
+     * Generates the text of a level.
+     *
+     * @param size Size of the board. It must be, at least, 3.
+     * @param difficulty Difficulty written in the level.
+     * @param scrambleDepth Number of legal moves used to scramble the solved board.
+     * @return Text of the level in the format of the level files.
+     */
+    public String generate(int size, LevelDifficulty difficulty, int scrambleDepth) {
+        return toText(generateBoard(size, scrambleDepth), size, difficulty);
+    }
+
+    /**
+     * Generates the text of a level that is already solved, e.g. to measure the game with solved boards.
+     *
+     * @param size Size of the board. It must be, at least, 3.
+     * @param difficulty Difficulty written in the level.
+     * @return Text of the level in the format of the level files.
+     */
+    public String generateSolved(int size, LevelDifficulty difficulty) {
+        return toText(buildBoard(size), size, difficulty);
+    }
+
+    /**
+     * Generates an unsolved board that can be solved with, at most, "scrambleDepth" moves
+     * (unless more moves were needed to leave it unsolved).
+     *
+     * @param size Size of the board. It must be, at least, 3.
+     * @param scrambleDepth Number of legal moves used to scramble the solved board.
+     * @return Board as an array of CellType ordinals in row-major order.
+     */
+    byte[] generateBoard(int size, int scrambleDepth) {
+        byte[] board = buildBoard(size);
+        scramble(board, size, RouteTracer.findStart(board, size), scrambleDepth);
+        return board;
+    }
+
+    /**
+     * Builds a solved board with a road from the START cell (in the last row) to the FINISH cell (in the first row).
+     */
+    private byte[] buildBoard(int size) {
+        if (size < Level.getMinimumBoardSize()) {
+            throw new IllegalArgumentException(LevelException.ERROR_BOARD_SIZE);
+        }
+
+        byte[] board = new byte[size * size];
+        int start = (size - 1) * size + random.nextInt(size);
+        int finish = random.nextInt(size);
+
+        for (int i = 0; i < board.length; i++) {
+            board[i] = (byte) fill().ordinal();
+        }
+        board[start] = (byte) CellType.START.ordinal();
+        board[finish] = (byte) CellType.FINISH.ordinal();
+        buildRoad(board, size, start % size, finish);
+        ensureFreeCell(board);
+        return board;
+    }
+
+    /**
+     * Builds a road between the START cell (in the given column of the last row) and the FINISH cell
+     * (in the given column of the first row). The road goes up row by row, and in each row it moves
+     * horizontally to a random column before going up again.
+     */
+    private void buildRoad(byte[] board, int size, int column, int finishColumn) {
+        for (int row = size - 2; row >= 1; row--) {
+            int target = row == 1 ? finishColumn : random.nextInt(size);
+
+            if (target == column) {
+                board[row * size + column] = (byte) straight(CellType.VERTICAL, CellType.ROTATABLE_VERTICAL).ordinal();
+                continue;
+            }
+
+            int step = target > column ? 1 : -1;
+            board[row * size + column] = (byte) (step > 0 ? CellType.BOTTOM_RIGHT : CellType.BOTTOM_LEFT).ordinal();
+            for (int c = column + step; c != target; c += step) {
+                board[row * size + c] = (byte) straight(CellType.HORIZONTAL, CellType.ROTATABLE_HORIZONTAL).ordinal();
+            }
+            board[row * size + target] = (byte) (step > 0 ? CellType.TOP_LEFT : CellType.TOP_RIGHT).ordinal();
+            column = target;
+        }
+    }
+
+    /**
+     * Scrambles the board with legal moves until it has done "depth" moves and the board is not solved.
+     */
+    private void scramble(byte[] board, int size, int start, int depth) {
+        int[] movables = LevelSolver.indexesOf(board, true);
+        int[] rotatables = LevelSolver.indexesOf(board, false);
+        int maxAttempts = 16 * (depth + board.length);
+        int moves = 0;
+
+        for (int attempts = 0; attempts < maxAttempts
+                && (moves < depth || RouteTracer.isSolved(board, size, start)); attempts++) {
+            if (rotatables.length > 0 && random.nextInt(movables.length + rotatables.length) < rotatables.length) {
+                int index = rotatables[random.nextInt(rotatables.length)];
+                board[index] = (byte) TYPES[board[index]].next().ordinal();
+                moves++;
+            } else {
+                int first = movables[random.nextInt(movables.length)];
+                int second = movables[random.nextInt(movables.length)];
+                //Swapping two cells of the same type does not change the board, so it does not count as a move.
+                if (board[first] != board[second]) {
+                    byte type = board[first];
+                    board[first] = board[second];
+                    board[second] = type;
+                    moves++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Turns a MOUNTAINS or RIVER cell into a FREE cell if there is no FREE cell, so that a road
+     * made of a single movable piece can still be scrambled.
+     */
+    private void ensureFreeCell(byte[] board) {
+        int candidate = -1;
+        for (int i = 0; i < board.length; i++) {
+            if (board[i] == CellType.FREE.ordinal()) {
+                return;
+            }
+            if (board[i] == CellType.MOUNTAINS.ordinal() || board[i] == CellType.RIVER.ordinal()) {
+                candidate = i;
+            }
+        }
+        board[candidate] = (byte) CellType.FREE.ordinal();
+    }
+
+    /**
+     * Returns a random cell type for the cells that are not part of the road.
+     */
+    private CellType fill() {
+        int value = random.nextInt(4);
+        return value == 0 ? CellType.MOUNTAINS : value == 1 ? CellType.RIVER : CellType.FREE;
+    }
+
+    /**
+     * Returns the movable or, with probability {@link #ROTATABLE_PROBABILITY}, the rotatable version of a straight piece.
+     */
+    private CellType straight(CellType movable, CellType rotatable) {
+        return random.nextDouble() < ROTATABLE_PROBABILITY ? rotatable : movable;
+    }
+
+    /**
+     * Writes the board in the format of the level files.
+     */
+    static String toText(byte[] board, int size, LevelDifficulty difficulty) {
+        StringBuilder text = new StringBuilder(board.length + size + 64);
+        text.append("# rows and cols\n").append(size).append("\n\n")
+                .append("# difficulty\n").append(difficulty).append("\n\n")
+                .append("# map\n");
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                text.append(TYPES[board[row * size + column]].getFileSymbol());
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.game.model.levels;
+
+import java.util.Objects;
+
+/**
+ * Metadata of a level file, i.e. the information that can be listed without loading the level.
+ *
+ * @version 1.0
+ */
+public final class LevelInfo {
+
+    /**
+     * Number of the level, i.e. the "N" of the file name "levelN.txt".
+     */
+    private final int id;
+
+    /**
+     * Size of the board, i.e. size x size.
+     */
+    private final int size;
+
+    /**
+     * Difficulty of the level.
+     */
+    private final LevelDifficulty difficulty;
+
+    /**
+     * Constructor
+     *
+     * @param id Number of the level.
+     * @param size Size of the board.
+     * @param difficulty Difficulty of the level.
+     */
+    public LevelInfo(int id, int size, LevelDifficulty difficulty) {
+        this.id = id;
+        this.size = size;
+        this.difficulty = Objects.requireNonNull(difficulty);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public LevelDifficulty getDifficulty() {
+        return difficulty;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LevelInfo other)) {
+            return false;
+        }
+        return id == other.id && size == other.size && difficulty == other.difficulty;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, size, difficulty);
+    }
+
+    /**
+     * Returns the level as a line of the manifest, i.e. "id size difficulty".
+     *
+     * @return Text with the id, the size and the difficulty of the level.
+     */
+    @Override
+    public String toString() {
+        return id + " " + size + " " + difficulty;
+    }
+}
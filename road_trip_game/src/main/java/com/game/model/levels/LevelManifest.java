@@ -0,0 +1,59 @@
+package com.game.model.levels;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Reader of the manifest of a folder of levels. The manifest is generated at build time
+ * (see the Gradle task "generateLevelManifests") and has one line per level file with the format
+ * "id size difficulty". Blank lines and lines starting with "#" are ignored.
+ *
+ * @version 1.0
+ */
+public final class LevelManifest {
+
+    /**
+     * Name of the manifest file inside a folder of levels.
+     */
+    public static final String FILE_NAME = "manifest.txt";
+
+    private LevelManifest() {
+    }
+
+    /**
+     * Reads a whole manifest with a single read.
+     *
+     * @param inputStream Stream of the manifest. It is not closed.
+     * @return Unmodifiable list of the levels of the manifest, sorted by id.
+     * @throws IOException When the manifest cannot be read or any line is malformed.
+     */
+    public static List<LevelInfo> read(InputStream inputStream) throws IOException {
+        String text = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        List<LevelInfo> levels = new ArrayList<>();
+
+        for (String line : text.split("\\R")) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\\s+");
+            try {
+                if (fields.length != 3) {
+                    throw new IllegalArgumentException(line);
+                }
+                levels.add(new LevelInfo(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                        LevelDifficulty.valueOf(fields[2])));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Malformed line of the level manifest: " + line, e);
+            }
+        }
+
+        levels.sort(Comparator.comparingInt(LevelInfo::getId));
+        return Collections.unmodifiableList(levels);
+    }
+}
@@ -0,0 +1,178 @@
+package com.game.model.levels;
+
+import com.game.model.cells.CellType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Binary pack of levels that is read through a memory-mapped file.<br/>
+ * Format (big-endian):
+ * <ul>
+ *     <li>Header: magic number {@link #MAGIC} (4 bytes), version {@link #VERSION} (4 bytes) and number of levels n (4 bytes).</li>
+ *     <li>Index: n offsets (8 bytes each) from the beginning of the file to the record of each level.</li>
+ *     <li>Records: size of the board (4 bytes), ordinal of the LevelDifficulty (1 byte) and the board,
+ *     i.e. size x size CellType ordinals in row-major order (1 byte each).</li>
+ * </ul>
+ * Loading a level is a lookup in the index and a bulk copy of its board out of the mapped file.
+ * The pack is written by {@link LevelPackConverter}, which validates every level, so only the basic
+ * consistency of a record is checked when it is loaded.
+ *
+ * @version 1.0
+ */
+public final class LevelPack implements LevelSource {
+
+    /**
+     * Magic number of the level packs, i.e. "RTLP" (Road Trip Level Pack).
+     */
+    public static final int MAGIC = 0x52544C50;
+
+    /**
+     * Version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Number of bytes of the header.
+     */
+    static final int HEADER_SIZE = 12;
+
+    /**
+     * Number of bytes of each entry of the index.
+     */
+    static final int INDEX_ENTRY_SIZE = 8;
+
+    /**
+     * Number of bytes of the size and the difficulty of a record.
+     */
+    static final int RECORD_HEADER_SIZE = 5;
+
+    private static final CellType[] TYPES = CellType.values();
+
+    private static final LevelDifficulty[] DIFFICULTIES = LevelDifficulty.values();
+
+    /**
+     * Read-only mapping of the whole pack. Only absolute get methods are used, so it can be shared by several threads.
+     */
+    private final ByteBuffer buffer;
+
+    private final int numLevels;
+
+    private LevelPack(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("It is not a level pack");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported version of level pack: " + buffer.getInt(4));
+        }
+        this.numLevels = buffer.getInt(8);
+        if (numLevels < 0 || (long) HEADER_SIZE + (long) numLevels * INDEX_ENTRY_SIZE > buffer.limit()) {
+            throw new IOException("The index of the level pack is truncated");
+        }
+    }
+
+    /**
+     * Opens a level pack by mapping the whole file in memory. The file can be closed or deleted afterwards.
+     *
+     * @param path Path of the pack.
+     * @return Level pack.
+     * @throws IOException When the file cannot be read, is not a level pack or is bigger than 2GB.
+     */
+    public static LevelPack open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Level packs bigger than 2GB are not supported");
+            }
+            return new LevelPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a level pack from a buffer (e.g. a pack that has been received or embedded as a resource).
+     *
+     * @param buffer Buffer whose content, from its position to its limit, is a level pack. It must not be modified afterwards.
+     * @return Level pack.
+     * @throws IOException When the buffer is not a level pack.
+     */
+    public static LevelPack of(ByteBuffer buffer) throws IOException {
+        return new LevelPack(buffer.slice());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumLevels() {
+        return numLevels;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LevelTemplate getTemplate(int numLevel) throws LevelException {
+        int offset = getOffset(numLevel);
+        int size = getRecordSize(offset);
+        LevelDifficulty difficulty = getRecordDifficulty(offset);
+
+        byte[] board = new byte[size * size];
+        buffer.get(offset + RECORD_HEADER_SIZE, board);
+
+        for (byte type : board) {
+            if (type < 0 || type >= TYPES.length) {
+                throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
+            }
+        }
+        int startIndex = RouteTracer.findStart(board, size);
+        if (startIndex == -1) {
+            throw new LevelException(LevelException.ERROR_NO_STARTING);
+        }
+        return new LevelTemplate(new Level(size, difficulty, board, startIndex));
+    }
+
+    /**
+     * Returns the metadata of the given level without reading its board.
+     *
+     * @param numLevel Number of the level, from 1 to {@link #getNumLevels()}.
+     * @return Metadata of the level.
+     * @throws LevelException When the record of the level is corrupt.
+     */
+    @Override
+    public LevelInfo getInfo(int numLevel) throws LevelException {
+        int offset = getOffset(numLevel);
+        return new LevelInfo(numLevel, getRecordSize(offset), getRecordDifficulty(offset));
+    }
+
+    /**
+     * Returns the position in the buffer of the record of the given level, checking that the whole record is in the buffer.
+     */
+    private int getOffset(int numLevel) throws LevelException {
+        Objects.checkIndex(numLevel - 1, numLevels);
+        long offset = buffer.getLong(HEADER_SIZE + (numLevel - 1) * INDEX_ENTRY_SIZE);
+        if (offset < HEADER_SIZE || offset + RECORD_HEADER_SIZE > buffer.limit()) {
+            throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
+        }
+        int size = buffer.getInt((int) offset);
+        if (size < Level.getMinimumBoardSize() || offset + RECORD_HEADER_SIZE + (long) size * size > buffer.limit()) {
+            throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
+        }
+        return (int) offset;
+    }
+
+    private int getRecordSize(int offset) {
+        return buffer.getInt(offset);
+    }
+
+    private LevelDifficulty getRecordDifficulty(int offset) throws LevelException {
+        int difficulty = buffer.get(offset + 4);
+        if (difficulty < 0 || difficulty >= DIFFICULTIES.length) {
+            throw new LevelException(LevelException.ERROR_PARSING_LEVEL_FILE);
+        }
+        return DIFFICULTIES[difficulty];
+    }
+}
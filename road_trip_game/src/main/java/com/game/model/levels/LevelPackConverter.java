@@ -0,0 +1,129 @@
+package com.game.model.levels;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Converter of a folder of level files ("levelN.txt") into a {@link LevelPack}.<br/>
+ * Every level is parsed and validated with {@link LevelParser}. The records are streamed to the file,
+ * so only the index of the pack is kept in memory.
+ * <br/><br/>
+ * Usage: {@code LevelPackConverter <folder of level files> <pack file>}
+ *
+ * @version 1.0
+ */
+public final class LevelPackConverter {
+
+    /**
+     * Pattern of the names of the level files. The group is the number of the level.
+     */
+    private static final Pattern LEVEL_FILE = Pattern.compile("level(\\d+)\\.txt");
+
+    private LevelPackConverter() {
+    }
+
+    /**
+     * Entry point of the converter.
+     *
+     * @param args Folder of level files and pack file to write.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: LevelPackConverter <folder of level files> <pack file>");
+            System.exit(2);
+        }
+        try {
+            int numLevels = convert(Path.of(args[0]), Path.of(args[1]));
+            System.out.println(numLevels + " levels written to " + args[1]);
+        } catch (IOException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Converts all the files "levelN.txt" of a folder into a level pack. Level N of the pack is the N-th file
+     * sorted by number, so the numbers of the files should be consecutive and start at 1.
+     *
+     * @param folder Folder of level files.
+     * @param pack File of the pack. It is overwritten if it exists.
+     * @return Number of levels written.
+     * @throws IOException When any file cannot be read or written, or some level is not valid.
+     */
+    public static int convert(Path folder, Path pack) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(folder)) {
+            files = stream.filter(file -> LEVEL_FILE.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingInt(LevelPackConverter::getLevelNumber))
+                    .collect(Collectors.toList());
+        }
+        write(files, pack);
+        return files.size();
+    }
+
+    /**
+     * Writes the given level files, in order, as a level pack.
+     *
+     * @param files Level files. The first one is level 1.
+     * @param pack File of the pack. It is overwritten if it exists.
+     * @throws IOException When any file cannot be read or written, or some level is not valid.
+     */
+    public static void write(List<Path> files, Path pack) throws IOException {
+        long dataStart = LevelPack.HEADER_SIZE + (long) files.size() * LevelPack.INDEX_ENTRY_SIZE;
+        ByteBuffer index = ByteBuffer.allocate(Math.toIntExact(dataStart));
+        index.putInt(LevelPack.MAGIC).putInt(LevelPack.VERSION).putInt(files.size());
+
+        try (FileChannel channel = FileChannel.open(pack, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(dataStart);
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            long offset = dataStart;
+
+            for (Path file : files) {
+                LevelParser parser;
+                try (Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+                    parser = new LevelParser(reader);
+                    parser.parse();
+                } catch (LevelParseException e) {
+                    throw new IOException("Invalid level file " + file + ": " + e, e);
+                }
+
+                index.putLong(offset);
+                output.writeInt(parser.getSize());
+                output.writeByte(parser.getDifficulty().ordinal());
+                output.write(parser.getBoard());
+                offset += LevelPack.RECORD_HEADER_SIZE + parser.getBoard().length;
+            }
+            output.flush();
+
+            if (offset > Integer.MAX_VALUE) {
+                throw new IOException("Level packs bigger than 2GB are not supported");
+            }
+            index.flip();
+            while (index.hasRemaining()) {
+                channel.write(index, index.position());
+            }
+        }
+    }
+
+    private static int getLevelNumber(Path file) {
+        Matcher matcher = LEVEL_FILE.matcher(file.getFileName().toString());
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+}
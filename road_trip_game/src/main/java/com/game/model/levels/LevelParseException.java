@@ -0,0 +1,58 @@
+package com.game.model.levels;
+
+/**
+ * {@link LevelException} thrown while parsing a level file, with the position of the error in the file.
+ * The message is still one of the constants of {@link LevelException}.
+ *
+ * @version 1.0
+ */
+public class LevelParseException extends LevelException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Value of the line or the column when the error is not related to a specific position.
+     */
+    public static final int UNKNOWN_POSITION = -1;
+
+    /**
+     * Line (starting at 1) of the error.
+     */
+    private final int line;
+
+    /**
+     * Column (starting at 1) of the error.
+     */
+    private final int column;
+
+    /**
+     * Constructor
+     *
+     * @param msg One of the error messages of {@link LevelException}.
+     * @param line Line (starting at 1) of the error, or {@link #UNKNOWN_POSITION}.
+     * @param column Column (starting at 1) of the error, or {@link #UNKNOWN_POSITION}.
+     */
+    public LevelParseException(String msg, int line, int column) {
+        super(msg);
+        this.line = line;
+        this.column = column;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    @Override
+    public String toString() {
+        if (line == UNKNOWN_POSITION) {
+            return super.toString();
+        }
+        return super.toString() + (column == UNKNOWN_POSITION
+                ? " (line " + line + ")"
+                : " (line " + line + ", column " + column + ")");
+    }
+}
@@ -0,0 +1,354 @@
+package com.game.model.levels;
+
+import com.game.model.cells.CellType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Single-pass parser of the level files.<br/>
+ * The text is read in blocks (from a Reader or decoded from UTF-8 bytes of a ByteBuffer), the symbols of the map are decoded with {@link CellType#map2CellType(char)}
+ * (a direct lookup) and the requirements of the board (one starting cell in the last row, one finish cell
+ * in the first row and, at least, one road cell) are checked while the board is filled.
+ * Errors are thrown as {@link LevelParseException} with the line and column where they were found.
+ * <br/><br/>
+ * Blank lines and lines starting with "#" are ignored. Characters after the first "size" symbols of a row are ignored.
+ *
+ * @version 1.0
+ */
+final class LevelParser {
+
+    /**
+     * Number of chars read from the reader at once.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Biggest size whose board (size x size) fits in an array.
+     */
+    private static final int MAXIMUM_BOARD_SIZE = 46340;
+
+    private static final int UNKNOWN = LevelParseException.UNKNOWN_POSITION;
+
+    /**
+     * Value of "startIndex" while no starting cell has been found in the last row.
+     */
+    private static final int NO_START = -1;
+
+    /**
+     * Reader of the text, or {@code null} when the text is read from "bytes".
+     */
+    private final Reader reader;
+
+    /**
+     * UTF-8 bytes of the text, or {@code null} when the text is read from "reader".
+     */
+    private final ByteBuffer bytes;
+
+    private final CharsetDecoder decoder;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    /**
+     * Position of the next char of "buffer" to read.
+     */
+    private int position = 0;
+
+    /**
+     * Number of valid chars in "buffer".
+     */
+    private int limit = 0;
+
+    /**
+     * True when the last line finished with '\r', so a following '\n' belongs to the same line break.
+     */
+    private boolean skipLineFeed = false;
+
+    /**
+     * Chars of the current line, without the line break.
+     */
+    private char[] line = new char[64];
+
+    private int lineLength = 0;
+
+    /**
+     * Number (starting at 1) of the current line.
+     */
+    private int lineNumber = 0;
+
+    private int size;
+
+    private LevelDifficulty difficulty;
+
+    private byte[] board;
+
+    private int startIndex = NO_START;
+
+    /**
+     * Constructor
+     *
+     * @param reader Reader of the text of the level. It is not closed by the parser.
+     */
+    LevelParser(Reader reader) {
+        this.reader = reader;
+        this.bytes = null;
+        this.decoder = null;
+    }
+
+    /**
+     * Constructor of a parser that decodes the UTF-8 text directly from a buffer, without any intermediate stream.
+     *
+     * @param bytes Buffer with the text of the level, from its position to its limit. Its position is moved to its limit.
+     */
+    LevelParser(ByteBuffer bytes) {
+        this.reader = null;
+        this.bytes = bytes;
+        this.decoder = StandardCharsets.UTF_8.newDecoder();
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    LevelDifficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Returns the parsed board.
+     *
+     * @return Array of size x size CellType ordinals in row-major order.
+     */
+    byte[] getBoard() {
+        return board;
+    }
+
+    /**
+     * Returns the position in the board of the starting cell.
+     *
+     * @return Index (row * size + column) of the starting cell, i.e. the same value as {@link RouteTracer#findStart}.
+     */
+    int getStartIndex() {
+        return startIndex;
+    }
+
+    /**
+     * Parses the whole level and checks the board's requirements.
+     *
+     * @throws LevelParseException When the text is not a valid level. The message is
+     * {@link LevelException#ERROR_PARSING_LEVEL_FILE} for syntax errors or when there is more than one starting
+     * or finish cell, {@link LevelException#ERROR_BOARD_SIZE}, {@link LevelException#ERROR_NO_STARTING},
+     * {@link LevelException#ERROR_NO_FINISH} or {@link LevelException#ERROR_NO_ROAD}, in this order of priority.
+     */
+    void parse() throws LevelParseException {
+        int starts = 0;
+        int finishes = 0;
+        boolean isFinish = false;
+        boolean isRoad = false;
+        int duplicateStartLine = UNKNOWN;
+        int duplicateStartColumn = UNKNOWN;
+        int duplicateFinishLine = UNKNOWN;
+        int duplicateFinishColumn = UNKNOWN;
+        int firstRowLine = UNKNOWN;
+
+        try {
+            size = parseSize();
+            difficulty = parseDifficulty();
+            board = new byte[size * size];
+
+            for (int row = 0; row < size; row++) {
+                if (!nextContentLine()) {
+                    //The text finished before the last row
+                    throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, lineNumber + 1, UNKNOWN);
+                }
+                if (lineLength < size) {
+                    throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, lineNumber, lineLength + 1);
+                }
+                if (row == 0) {
+                    firstRowLine = lineNumber;
+                }
+
+                int index = row * size;
+                for (int column = 0; column < size; column++, index++) {
+                    CellType type = CellType.map2CellType(line[column]);
+                    if (type == null) {
+                        throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, lineNumber, column + 1);
+                    }
+                    board[index] = (byte) type.ordinal();
+
+                    if (type == CellType.START) {
+                        if (++starts == 2) {
+                            duplicateStartLine = lineNumber;
+                            duplicateStartColumn = column + 1;
+                        }
+                        if (row == size - 1) {
+                            startIndex = index;
+                        }
+                    } else if (type == CellType.FINISH) {
+                        if (++finishes == 2) {
+                            duplicateFinishLine = lineNumber;
+                            duplicateFinishColumn = column + 1;
+                        }
+                        isFinish = isFinish || row == 0;
+                    } else {
+                        isRoad = isRoad || type.isMovable() || type.isRotatable();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            //The line that was being read when the error happened
+            throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, lineNumber + 1, UNKNOWN);
+        }
+
+        if (starts > 1) {
+            throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, duplicateStartLine, duplicateStartColumn);
+        }
+
+        if (finishes > 1) {
+            throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, duplicateFinishLine, duplicateFinishColumn);
+        }
+
+        if (startIndex == NO_START) {
+            throw new LevelParseException(LevelException.ERROR_NO_STARTING, lineNumber, UNKNOWN);
+        }
+
+        if (!isFinish) {
+            throw new LevelParseException(LevelException.ERROR_NO_FINISH, firstRowLine, UNKNOWN);
+        }
+
+        if (!isRoad) {
+            throw new LevelParseException(LevelException.ERROR_NO_ROAD, UNKNOWN, UNKNOWN);
+        }
+    }
+
+    /**
+     * Reads the line with the size of the board.
+     */
+    private int parseSize() throws IOException, LevelParseException {
+        if (!nextContentLine()) {
+            throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, lineNumber + 1, UNKNOWN);
+        }
+        int value;
+        try {
+            value = Integer.parseInt(new String(line, 0, lineLength));
+        } catch (NumberFormatException e) {
+            throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, lineNumber, 1);
+        }
+        if (value < Level.getMinimumBoardSize()) {
+            throw new LevelParseException(LevelException.ERROR_BOARD_SIZE, lineNumber, 1);
+        }
+        if (value > MAXIMUM_BOARD_SIZE) {
+            throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, lineNumber, 1);
+        }
+        return value;
+    }
+
+    /**
+     * Reads the line with the difficulty of the level.
+     */
+    private LevelDifficulty parseDifficulty() throws IOException, LevelParseException {
+        if (!nextContentLine()) {
+            throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, lineNumber + 1, UNKNOWN);
+        }
+        try {
+            return LevelDifficulty.valueOf(new String(line, 0, lineLength));
+        } catch (IllegalArgumentException e) {
+            throw new LevelParseException(LevelException.ERROR_PARSING_LEVEL_FILE, lineNumber, 1);
+        }
+    }
+
+    /**
+     * Reads the next line that is neither blank nor a comment (i.e. it starts with "#").
+     *
+     * @return True if a line has been read, false at the end of the text.
+     * @throws IOException When the reader fails.
+     */
+    private boolean nextContentLine() throws IOException {
+        while (readLine()) {
+            if (lineLength > 0 && line[0] != '#' && !isBlankLine()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isBlankLine() {
+        for (int i = 0; i < lineLength; i++) {
+            if (!Character.isWhitespace(line[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next block of text into "buffer".
+     *
+     * @return Number of chars read, 0 at the end of the text.
+     * @throws IOException When the reader fails or the bytes are not valid UTF-8.
+     */
+    private int fill() throws IOException {
+        if (reader != null) {
+            return Math.max(reader.read(buffer, 0, buffer.length), 0);
+        }
+        //UTF-8 decoders keep no state between calls, so it is not needed to flush it at the end.
+        CharBuffer chars = CharBuffer.wrap(buffer);
+        CoderResult result = decoder.decode(bytes, chars, true);
+        //The chars before an invalid sequence are returned first, so that the error is reported in its line
+        if (result.isError() && chars.position() == 0) {
+            result.throwException();
+        }
+        return chars.position();
+    }
+
+    /**
+     * Reads the next line into "line". A line ends with '\n', '\r' or "\r\n".
+     *
+     * @return True if a line has been read, false at the end of the text.
+     * @throws IOException When the reader fails.
+     */
+    private boolean readLine() throws IOException {
+        boolean read = false;
+        lineLength = 0;
+
+        while (true) {
+            if (position == limit) {
+                limit = fill();
+                position = 0;
+                if (limit == 0) {
+                    if (read) {
+                        lineNumber++;
+                    }
+                    return read;
+                }
+            }
+
+            char c = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            read = true;
+
+            if (c == '\n' || c == '\r') {
+                skipLineFeed = c == '\r';
+                lineNumber++;
+                return true;
+            }
+
+            if (lineLength == line.length) {
+                char[] bigger = new char[line.length * 2];
+                System.arraycopy(line, 0, bigger, 0, lineLength);
+                line = bigger;
+            }
+            line[lineLength++] = c;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.game.model.levels;
+
+import com.game.model.cells.CellType;
+import com.game.model.utils.Coordinate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Breadth-first solver for levels.<br/>
+ * The search works on a copy of the board where each cell is stored as the ordinal of its {@link CellType},
+ * and it keeps a transposition table with every board state that has already been reached
+ * so that each state is expanded once at most.
+ *
+ * @version 1.0
+ */
+public class LevelSolver {
+
+    /**
+     * Default maximum number of board states that the solver expands before giving up.
+     */
+    public static final long DEFAULT_MAX_NODES = 5_000_000;
+
+    /**
+     * Number of expanded states between two samples of the heap in use.
+     */
+    static final int MEMORY_SAMPLE_INTERVAL = 1024;
+
+    /**
+     * Cached values of CellType.
+     */
+    private static final CellType[] TYPES = CellType.values();
+
+    /**
+     * Maximum number of board states that the solver expands before giving up.
+     */
+    private final long maxNodes;
+
+    /**
+     * Constructor that uses {@link #DEFAULT_MAX_NODES} as search limit.
+     */
+    public LevelSolver() {
+        this(DEFAULT_MAX_NODES);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxNodes Maximum number of board states that the solver expands before giving up.
+     */
+    public LevelSolver(long maxNodes) {
+        if (maxNodes <= 0) {
+            throw new IllegalArgumentException("maxNodes must be positive");
+        }
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Returns the maximum number of board states that the solver expands before giving up.
+     *
+     * @return Search limit.
+     */
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Searches the minimal sequence of moves that solves the given level from its current state.
+     * The level is not modified.
+     *
+     * @param level Level to solve.
+     * @return Solution with the outcome, the moves (if any) and the statistics of the search.
+     */
+    public Solution solve(Level level) {
+        long startTime = System.nanoTime();
+        Runtime runtime = Runtime.getRuntime();
+        long baseMemory = runtime.totalMemory() - runtime.freeMemory();
+        long peakMemory = 0;
+        long nodesExpanded = 0;
+
+        int size = level.getSize();
+        byte[] initial = level.getTypes();
+        int[] movables = indexesOf(initial, true);
+        int[] rotatables = indexesOf(initial, false);
+        int start = RouteTracer.findStart(initial, size);
+
+        Node root = new Node(initial, null, -1, -1);
+        Set<Node> visited = new HashSet<>();
+        ArrayDeque<Node> frontier = new ArrayDeque<>();
+        visited.add(root);
+        frontier.add(root);
+
+        Node goal = RouteTracer.isSolved(initial, size, start) ? root : null;
+
+        while (goal == null && !frontier.isEmpty() && nodesExpanded < maxNodes) {
+            Node node = frontier.poll();
+            nodesExpanded++;
+
+            if (nodesExpanded % MEMORY_SAMPLE_INTERVAL == 0) {
+                peakMemory = Math.max(peakMemory, runtime.totalMemory() - runtime.freeMemory() - baseMemory);
+            }
+
+            goal = forEachChild(node, movables, rotatables, child -> expand(child, size, start, visited, frontier));
+        }
+
+        peakMemory = Math.max(peakMemory, runtime.totalMemory() - runtime.freeMemory() - baseMemory);
+
+        if (goal != null) {
+            return new Solution(Solution.Status.SOLVED, path(goal, size), nodesExpanded, peakMemory,
+                    System.nanoTime() - startTime);
+        }
+        //The frontier is not empty when the search stopped because of maxNodes.
+        return new Solution(frontier.isEmpty() ? Solution.Status.UNSOLVABLE : Solution.Status.EXHAUSTED, null,
+                nodesExpanded, peakMemory, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Adds the given node to the frontier if its board has not been reached before.
+     *
+     * @return The node if its board is solved, otherwise {@code null}.
+     */
+    private Node expand(Node node, int size, int start, Set<Node> visited, ArrayDeque<Node> frontier) {
+        if (!visited.add(node)) {
+            return null;
+        }
+        if (RouteTracer.isSolved(node.board, size, start)) {
+            return node;
+        }
+        frontier.add(node);
+        return null;
+    }
+
+    /**
+     * Calls the visitor with every board that can be reached from the given node with one move,
+     * until the visitor returns a node.
+     *
+     * @param node Node to expand.
+     * @param movables Indexes of the movable cells.
+     * @param rotatables Indexes of the rotatable cells.
+     * @param visitor Visitor of the children.
+     * @return The first node returned by the visitor, or {@code null} if it always returned {@code null}.
+     */
+    static Node forEachChild(Node node, int[] movables, int[] rotatables, ChildVisitor visitor) {
+        Node result = null;
+
+        for (int i = 0; i < movables.length && result == null; i++) {
+            for (int j = i + 1; j < movables.length && result == null; j++) {
+                int first = movables[i];
+                int second = movables[j];
+                //Swapping two cells of the same type does not change the board.
+                if (node.board[first] != node.board[second]) {
+                    byte[] board = node.board.clone();
+                    board[first] = node.board[second];
+                    board[second] = node.board[first];
+                    result = visitor.visit(new Node(board, node, first, second));
+                }
+            }
+        }
+
+        for (int i = 0; i < rotatables.length && result == null; i++) {
+            int index = rotatables[i];
+            byte[] board = node.board.clone();
+            board[index] = (byte) TYPES[board[index]].next().ordinal();
+            result = visitor.visit(new Node(board, node, index, index));
+        }
+
+        return result;
+    }
+
+    /**
+     * Rebuilds the sequence of moves that leads from the root to the given node.
+     */
+    static List<Move> path(Node node, int size) {
+        List<Move> moves = new ArrayList<>();
+        for (Node current = node; current.parent != null; current = current.parent) {
+            Coordinate first = Coordinate.fromIndex(current.first, size);
+            if (current.first == current.second) {
+                moves.add(Move.rotate(first));
+            } else {
+                moves.add(Move.swap(first, Coordinate.fromIndex(current.second, size)));
+            }
+        }
+        Collections.reverse(moves);
+        return moves;
+    }
+
+    /**
+     * Returns the indexes of the cells which are movable (or rotatable when {@code movable} is false).
+     */
+    static int[] indexesOf(byte[] board, boolean movable) {
+        int[] indexes = new int[board.length];
+        int count = 0;
+        for (int i = 0; i < board.length; i++) {
+            if (movable ? TYPES[board[i]].isMovable() : TYPES[board[i]].isRotatable()) {
+                indexes[count++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    /**
+     * Visitor of the children of a node.
+     */
+    @FunctionalInterface
+    interface ChildVisitor {
+
+        /**
+         * @param child Board reached with one move.
+         * @return A node to stop the expansion, or {@code null} to go on.
+         */
+        Node visit(Node child);
+    }
+
+    /**
+     * Board state reached by the search. Two nodes are equal when their boards are equal.
+     */
+    static final class Node {
+
+        final byte[] board;
+        final Node parent;
+        final int first;
+        final int second;
+        private final int hash;
+
+        Node(byte[] board, Node parent, int first, int second) {
+            this.board = board;
+            this.parent = parent;
+            this.first = first;
+            this.second = second;
+            this.hash = Arrays.hashCode(board);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj instanceof Node) && ((Node) obj).hash == hash && Arrays.equals(((Node) obj).board, board);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.game.model.levels;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Source of the levels of a game. Levels are numbered from 1 to {@link #getNumLevels()}.
+ * Implementations must be safe to use from several threads.
+ *
+ * @version 1.0
+ */
+public interface LevelSource {
+
+    /**
+     * Returns the number of levels of the source.
+     *
+     * @return Number of levels.
+     */
+    int getNumLevels();
+
+    /**
+     * Loads the given level.
+     *
+     * @param numLevel Number of the level, from 1 to {@link #getNumLevels()}.
+     * @return Template of the level.
+     * @throws LevelException When the level cannot be loaded or is not valid.
+     */
+    LevelTemplate getTemplate(int numLevel) throws LevelException;
+
+    /**
+     * Returns the metadata of the given level. By default, the level is loaded in order to get it.
+     *
+     * @param numLevel Number of the level, from 1 to {@link #getNumLevels()}.
+     * @return Metadata of the level.
+     * @throws LevelException When the level cannot be loaded or is not valid.
+     */
+    default LevelInfo getInfo(int numLevel) throws LevelException {
+        LevelTemplate template = getTemplate(numLevel);
+        return new LevelInfo(numLevel, template.getSize(), template.getDifficulty());
+    }
+
+    /**
+     * Returns the metadata of all the levels of the source, sorted by number.
+     *
+     * @return Unmodifiable list with the metadata of the levels.
+     * @throws LevelException When some level cannot be loaded or is not valid.
+     */
+    default List<LevelInfo> getLevels() throws LevelException {
+        List<LevelInfo> levels = new ArrayList<>(getNumLevels());
+        for (int numLevel = 1; numLevel <= getNumLevels(); numLevel++) {
+            levels.add(getInfo(numLevel));
+        }
+        return Collections.unmodifiableList(levels);
+    }
+
+    /**
+     * Returns a source that loads each level of the given source only once and shares its template,
+     * e.g. for many games that play the same levels at the same time.
+     *
+     * @param source Source of the levels.
+     * @return Caching source.
+     */
+    static LevelSource cached(LevelSource source) {
+        return source instanceof CachedLevelSource ? source : new CachedLevelSource(source);
+    }
+}
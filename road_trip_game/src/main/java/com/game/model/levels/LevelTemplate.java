@@ -0,0 +1,68 @@
+package com.game.model.levels;
+
+/**
+ * Immutable, already parsed and validated, version of a level file.<br/>
+ * A template is parsed once and then every call to {@link #newLevel()} returns a fresh {@link Level}
+ * (with no moves) that shares the board and the route of the template until its first move (copy-on-write),
+ * without reading the file again.
+ * Since nothing of the template can be modified, it can be shared by several games and threads.
+ *
+ * @version 1.0
+ */
+public final class LevelTemplate {
+
+    /**
+     * Parsed level that is never handed out nor modified. Every new level is a copy of it.
+     */
+    private final Level prototype;
+
+    /**
+     * Constructor
+     *
+     * @param fileName Name of the file that contains level's data.
+     * @throws LevelException When there is any error while parsing the file.
+     */
+    public LevelTemplate(String fileName) throws LevelException {
+        this.prototype = new Level(fileName);
+    }
+
+    /**
+     * Constructor of a template from a level that has already been loaded.
+     *
+     * @param prototype Level without moves. It must not be modified nor handed out afterwards.
+     */
+    LevelTemplate(Level prototype) {
+        this.prototype = prototype;
+    }
+
+    public int getSize() {
+        return prototype.getSize();
+    }
+
+    public LevelDifficulty getDifficulty() {
+        return prototype.getDifficulty();
+    }
+
+    /**
+     * Returns a new level in the initial state of the template, i.e. without any move.
+     *
+     * @return New level, independent of the template and of any other level created from it.
+     */
+    public Level newLevel() {
+        return prototype.share();
+    }
+
+    /**
+     * Puts a level created by {@link #newLevel()} back in the initial state of the template, reusing its board.
+     *
+     * @param level Level created by this template.
+     */
+    void reset(Level level) {
+        level.reset(prototype);
+    }
+
+    @Override
+    public String toString() {
+        return prototype.toString();
+    }
+}
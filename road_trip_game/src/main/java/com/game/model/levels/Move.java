@@ -0,0 +1,113 @@
+package com.game.model.levels;
+
+import com.game.model.utils.Coordinate;
+
+/**
+ * Class that represents a single move of the player, i.e. a swap of two movable cells
+ * or the rotation of a rotatable cell.
+ *
+ * @version 1.0
+ */
+public final class Move {
+
+    /**
+     * Kinds of moves that can be applied to a level.
+     */
+    public enum Type {
+        SWAP,
+        ROTATE
+    }
+
+    /**
+     * Kind of the move.
+     */
+    private final Type type;
+
+    /**
+     * Coordinate of the (first) cell affected by the move.
+     */
+    private final Coordinate first;
+
+    /**
+     * Coordinate of the second cell of a swap. It is {@code null} for rotations.
+     */
+    private final Coordinate second;
+
+    /**
+     * Constructor
+     *
+     * @param type Kind of the move.
+     * @param first Coordinate of the (first) cell affected by the move.
+     * @param second Coordinate of the second cell of a swap, or {@code null} for rotations.
+     */
+    private Move(Type type, Coordinate first, Coordinate second) {
+        this.type = type;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Creates a move which swaps the cells in the given coordinates.
+     *
+     * @param first Coordinate of the first cell.
+     * @param second Coordinate of the second cell.
+     * @return Swap move.
+     */
+    public static Move swap(Coordinate first, Coordinate second) {
+        return new Move(Type.SWAP, first, second);
+    }
+
+    /**
+     * Creates a move which rotates the cell in the given coordinate.
+     *
+     * @param coord Coordinate of the cell.
+     * @return Rotate move.
+     */
+    public static Move rotate(Coordinate coord) {
+        return new Move(Type.ROTATE, coord, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Coordinate getFirst() {
+        return first;
+    }
+
+    public Coordinate getSecond() {
+        return second;
+    }
+
+    /**
+     * Applies this move to the given level by means of {@link Level#swapCells(Coordinate, Coordinate)}
+     * or {@link Level#rotateCell(Coordinate)}.
+     *
+     * @param level Level in which the move is applied.
+     * @throws LevelException When the move is not legal in the given level.
+     */
+    public void apply(Level level) throws LevelException {
+        if (type == Type.SWAP) {
+            level.swapCells(first, second);
+        } else {
+            level.rotateCell(first);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return (obj instanceof Move) && ((Move) obj).type == type
+                && ((Move) obj).first.equals(first)
+                && (second == null ? ((Move) obj).second == null : second.equals(((Move) obj).second));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * type.hashCode() + first.hashCode()) + (second == null ? 0 : second.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.SWAP ? "swap " + first + " " + second : "rotate " + first;
+    }
+}
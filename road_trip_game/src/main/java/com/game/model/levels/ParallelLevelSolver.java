@@ -0,0 +1,221 @@
+package com.game.model.levels;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel version of {@link LevelSolver}.<br/>
+ * The search goes level by level (all the boards at distance d are expanded before those at distance d + 1),
+ * and each level of the search is split across the workers of a {@link ForkJoinPool}. The transposition table
+ * is a concurrent set shared by all workers. As soon as any worker reaches a solved board, the other workers stop,
+ * and since every board of the current level is at the same distance the solution is still minimal.<br/>
+ * Each task counts its nodes locally and checks the search limit when it starts, so a search may expand
+ * up to parallelism * {@value #SPLIT_THRESHOLD} nodes over the limit.<br/>
+ * A solver whose parallelism is that of the common pool runs on {@link ForkJoinPool#commonPool()}. Otherwise it
+ * owns a pool of workers, which is reused by all its searches and shut down by {@link #close()}.
+ *
+ * @version 1.0
+ */
+public class ParallelLevelSolver extends LevelSolver implements AutoCloseable {
+
+    /**
+     * Maximum number of nodes that a task expands without splitting itself. Since a task counts its nodes
+     * locally, it is also the number of nodes expanded between two checks of the search limit.
+     */
+    private static final int SPLIT_THRESHOLD = 64;
+
+    /**
+     * Number of worker threads.
+     */
+    private final int parallelism;
+
+    /**
+     * Pool that runs the tasks of the searches. It is either the common pool or a pool owned by this solver.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor that uses as many workers as available processors.
+     */
+    public ParallelLevelSolver() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor that uses {@link LevelSolver#DEFAULT_MAX_NODES} as search limit.
+     *
+     * @param parallelism Number of worker threads.
+     */
+    public ParallelLevelSolver(int parallelism) {
+        this(parallelism, DEFAULT_MAX_NODES);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parallelism Number of worker threads.
+     * @param maxNodes Maximum number of board states that the solver expands before giving up.
+     */
+    public ParallelLevelSolver(int parallelism, long maxNodes) {
+        super(maxNodes);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        this.pool = parallelism == ForkJoinPool.getCommonPoolParallelism()
+                ? ForkJoinPool.commonPool() : new ForkJoinPool(parallelism);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Solution solve(Level level) {
+        long startTime = System.nanoTime();
+        Runtime runtime = Runtime.getRuntime();
+        long baseMemory = runtime.totalMemory() - runtime.freeMemory();
+        long peakMemory = 0;
+
+        int size = level.getSize();
+        byte[] initial = level.getTypes();
+        int start = RouteTracer.findStart(initial, size);
+
+        Node root = new Node(initial, null, -1, -1);
+        if (RouteTracer.isSolved(initial, size, start)) {
+            return new Solution(Solution.Status.SOLVED, path(root, size), 0, 0, System.nanoTime() - startTime);
+        }
+
+        Search search = new Search(size, start, indexesOf(initial, true), indexesOf(initial, false), getMaxNodes());
+        search.visited.add(root);
+        List<Node> frontier = List.of(root);
+
+        while (!search.stopped && !frontier.isEmpty()) {
+            frontier = pool.invoke(new ExpandTask(search, frontier, 0, frontier.size()));
+            peakMemory = Math.max(peakMemory, runtime.totalMemory() - runtime.freeMemory() - baseMemory);
+        }
+
+        Node goal = search.goal.get();
+        long nodesExpanded = search.nodesExpanded.sum();
+        if (goal != null) {
+            return new Solution(Solution.Status.SOLVED, path(goal, size), nodesExpanded, peakMemory,
+                    System.nanoTime() - startTime);
+        }
+        //When the limit is reached in the middle of a level, the next level is incomplete even if it is empty.
+        return new Solution(search.stopped ? Solution.Status.EXHAUSTED : Solution.Status.UNSOLVABLE, null,
+                nodesExpanded, peakMemory, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Shuts down the pool of workers if it is owned by this solver. The common pool is left running.
+     */
+    @Override
+    public void close() {
+        if (pool != ForkJoinPool.commonPool()) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * State of a search that is shared by all workers.
+     */
+    private static final class Search {
+
+        private final int size;
+        private final int start;
+        private final int[] movables;
+        private final int[] rotatables;
+        private final long maxNodes;
+        private final Set<Node> visited = ConcurrentHashMap.newKeySet();
+        private final AtomicReference<Node> goal = new AtomicReference<>();
+        private final LongAdder nodesExpanded = new LongAdder();
+
+        /**
+         * Set when any worker has found a solution or the search limit has been reached. The workers check it
+         * for every node, while the shared counter is only read once per task.
+         */
+        private volatile boolean stopped = false;
+
+        private Search(int size, int start, int[] movables, int[] rotatables, long maxNodes) {
+            this.size = size;
+            this.start = start;
+            this.movables = movables;
+            this.rotatables = rotatables;
+            this.maxNodes = maxNodes;
+        }
+    }
+
+    /**
+     * Task that expands a range of the current level of the search and returns the boards of the next level.
+     */
+    private static final class ExpandTask extends RecursiveTask<List<Node>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final List<Node> nodes;
+        private final int from;
+        private final int to;
+
+        private ExpandTask(Search search, List<Node> nodes, int from, int to) {
+            this.search = search;
+            this.nodes = nodes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Node> compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                ExpandTask left = new ExpandTask(search, nodes, from, middle);
+                left.fork();
+                List<Node> right = new ExpandTask(search, nodes, middle, to).compute();
+                List<Node> result = left.join();
+                result.addAll(right);
+                return result;
+            }
+
+            List<Node> next = new ArrayList<>();
+            long budget = search.maxNodes - search.nodesExpanded.sum();
+            int expanded = 0;
+            for (int i = from; i < to && expanded < budget && !search.stopped; i++) {
+                expanded++;
+                Node stop = forEachChild(nodes.get(i), search.movables, search.rotatables, child -> {
+                    if (search.stopped) {
+                        return child;
+                    }
+                    if (!search.visited.add(child)) {
+                        return null;
+                    }
+                    if (RouteTracer.isSolved(child.board, search.size, search.start)) {
+                        if (search.goal.compareAndSet(null, child)) {
+                            search.stopped = true;
+                        }
+                        return child;
+                    }
+                    next.add(child);
+                    return null;
+                });
+                if (stop != null) {
+                    break;
+                }
+            }
+            search.nodesExpanded.add(expanded);
+            //The limit only stops the search when it leaves nodes of this level unexpanded.
+            if (expanded >= budget && from + expanded < to) {
+                search.stopped = true;
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.game.model.levels;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Immutable recording of the moves done on a level. It is created by {@link ReplayRecorder} and played by {@link ReplayPlayer}.<br/>
+ * The level is identified by its number and by the hash of its initial state, so a replay can only be played on the
+ * level where it was recorded. Each move is a varint {@code zigzag(index - previous index) << 2 | operation}, where the
+ * index is the position (row * size + column) of the cell and the operation is {@link #SWAP}, {@link #ROTATE},
+ * {@link #UNDO} or {@link #REDO}. A swap is followed by a varint {@code zigzag(second index - index)}.
+ * When the replay has timestamps, each move is preceded by a varint with the milliseconds elapsed since the previous one.
+ * <br/><br/>
+ * Format of {@link #write(OutputStream)} (big-endian): magic number {@link #MAGIC} (4 bytes), version {@link #VERSION} (1 byte),
+ * flags (1 byte), number of the level (4 bytes), hash of the level (8 bytes), number of moves (4 bytes),
+ * number of bytes of the moves (4 bytes) and the moves.
+ *
+ * @version 1.0
+ */
+public final class Replay {
+
+    /**
+     * Magic number of the replays, i.e. "RTRP" (Road Trip RePlay).
+     */
+    public static final int MAGIC = 0x52545250;
+
+    /**
+     * Version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Number of bytes written before the moves.
+     */
+    private static final int HEADER_SIZE = 26;
+
+    static final int SWAP = 0;
+
+    static final int ROTATE = 1;
+
+    static final int UNDO = 2;
+
+    static final int REDO = 3;
+
+    /**
+     * Number of bits of the operation of each move.
+     */
+    static final int OPERATION_BITS = 2;
+
+    /**
+     * Flag of the replays whose moves have timestamps.
+     */
+    private static final int FLAG_TIMESTAMPS = 1;
+
+    private final int levelId;
+
+    private final long levelHash;
+
+    private final boolean timestamps;
+
+    private final int numMoves;
+
+    /**
+     * Encoded moves. The array is never modified nor handed out.
+     */
+    private final byte[] moves;
+
+    /**
+     * Constructor
+     *
+     * @param levelId Number of the level.
+     * @param levelHash Hash of the initial state of the level.
+     * @param timestamps True if the moves have timestamps.
+     * @param numMoves Number of encoded moves.
+     * @param moves Encoded moves. The replay keeps the array.
+     */
+    Replay(int levelId, long levelHash, boolean timestamps, int numMoves, byte[] moves) {
+        this.levelId = levelId;
+        this.levelHash = levelHash;
+        this.timestamps = timestamps;
+        this.numMoves = numMoves;
+        this.moves = moves;
+    }
+
+    public int getLevelId() {
+        return levelId;
+    }
+
+    public long getLevelHash() {
+        return levelHash;
+    }
+
+    public boolean hasTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * Returns the number of recorded moves, including undos and redos.
+     *
+     * @return Number of moves.
+     */
+    public int getNumMoves() {
+        return numMoves;
+    }
+
+    /**
+     * Returns the time between the start of the recording and the last move.
+     *
+     * @return Milliseconds, or 0 if the replay has no timestamps.
+     */
+    public long getDuration() {
+        if (!timestamps) {
+            return 0;
+        }
+        long duration = 0;
+        Decoder decoder = decoder();
+        while (decoder.next()) {
+            duration += decoder.delay;
+        }
+        return duration;
+    }
+
+    /**
+     * Returns a decoder of the moves of the replay.
+     */
+    Decoder decoder() {
+        return new Decoder();
+    }
+
+    /**
+     * Writes the replay.
+     *
+     * @param output Stream to write to. It is not closed.
+     * @throws IOException When the stream cannot be written.
+     */
+    public void write(OutputStream output) throws IOException {
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(timestamps ? FLAG_TIMESTAMPS : 0);
+        data.writeInt(levelId);
+        data.writeLong(levelHash);
+        data.writeInt(numMoves);
+        data.writeInt(moves.length);
+        data.write(moves);
+        data.flush();
+    }
+
+    /**
+     * Reads a replay written by {@link #write(OutputStream)}. The moves are checked to be well encoded.
+     *
+     * @param input Stream to read from. It is not closed.
+     * @return Replay.
+     * @throws IOException When the stream cannot be read or it is not a valid replay.
+     */
+    public static Replay read(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(input);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("It is not a replay");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version of replay: " + version);
+        }
+        int flags = data.readUnsignedByte();
+        int levelId = data.readInt();
+        long levelHash = data.readLong();
+        int numMoves = data.readInt();
+        int length = data.readInt();
+        if (numMoves < 0 || length < 0) {
+            throw new IOException("The replay is corrupt");
+        }
+        byte[] moves = data.readNBytes(length);
+        if (moves.length != length) {
+            throw new IOException("The replay is truncated");
+        }
+
+        Replay replay = new Replay(levelId, levelHash, (flags & FLAG_TIMESTAMPS) != 0, numMoves, moves);
+        Decoder decoder = replay.decoder();
+        int decoded = 0;
+        try {
+            while (decoder.next()) {
+                decoded++;
+            }
+        } catch (IllegalStateException e) {
+            throw new IOException("The replay is corrupt", e);
+        }
+        if (decoded != numMoves) {
+            throw new IOException("The replay is corrupt");
+        }
+        return replay;
+    }
+
+    /**
+     * Returns the encoded moves together with its header, i.e. what {@link #write(OutputStream)} writes.
+     *
+     * @return New array with the replay.
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(HEADER_SIZE + moves.length);
+        try {
+            write(output);
+        } catch (IOException e) {
+            //ByteArrayOutputStream does not throw IOException
+            throw new IllegalStateException(e);
+        }
+        return output.toByteArray();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Replay)) {
+            return false;
+        }
+        Replay replay = (Replay) o;
+        return levelId == replay.levelId && levelHash == replay.levelHash && timestamps == replay.timestamps
+                && numMoves == replay.numMoves && Arrays.equals(moves, replay.moves);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(levelHash) + Arrays.hashCode(moves);
+    }
+
+    @Override
+    public String toString() {
+        return "Replay of level " + levelId + " with " + numMoves + " moves";
+    }
+
+    /**
+     * Sequential decoder of the moves. After each call to {@link #next()}, the attributes describe the decoded move.
+     */
+    final class Decoder {
+
+        private int position = 0;
+
+        /**
+         * Operation of the move: {@link #SWAP}, {@link #ROTATE}, {@link #UNDO} or {@link #REDO}.
+         */
+        int operation;
+
+        /**
+         * Index of the cell of a swap or a rotation.
+         */
+        int first;
+
+        /**
+         * Index of the second cell of a swap.
+         */
+        int second;
+
+        /**
+         * Milliseconds since the previous move, or 0 without timestamps.
+         */
+        long delay;
+
+        /**
+         * Index of the previous move, from which the next index is encoded.
+         */
+        private int previous = 0;
+
+        private Decoder() {
+        }
+
+        /**
+         * Decodes the next move.
+         *
+         * @return True if a move has been decoded, false at the end of the replay.
+         * @throws IllegalStateException When the moves are not well encoded.
+         */
+        boolean next() {
+            if (position == moves.length) {
+                return false;
+            }
+            delay = timestamps ? readVarLong() : 0;
+            long value = readVarLong();
+            operation = (int) (value & ((1 << OPERATION_BITS) - 1));
+            if (operation == SWAP || operation == ROTATE) {
+                first = previous + zigzagDecode(value >>> OPERATION_BITS);
+                second = operation == SWAP ? first + zigzagDecode(readVarLong()) : first;
+                previous = first;
+            }
+            return true;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (position == moves.length) {
+                    throw new IllegalStateException("Truncated move");
+                }
+                byte b = moves[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed varint");
+        }
+
+        private int zigzagDecode(long value) {
+            return (int) ((value >>> 1) ^ -(value & 1));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.game.model.levels;
+
+/**
+ * Headless player of replays. The moves are applied directly to a {@link Level}, with the same rules as when they were
+ * played, as fast as they can be decoded (the recorded timestamps are ignored).
+ *
+ * @version 1.0
+ */
+public final class ReplayPlayer {
+
+    private ReplayPlayer() {
+    }
+
+    /**
+     * Plays a replay on a new level of the given template.
+     *
+     * @param replay Replay to play.
+     * @param template Template of the level where the replay was recorded.
+     * @return Level after all the moves of the replay.
+     * @throws LevelException When some move is not legal in the level.
+     * @throws IllegalArgumentException When the replay was not recorded on the level of the template, or it undoes
+     * (redoes) a move when the level has no move to undo (redo).
+     */
+    public static Level play(Replay replay, LevelTemplate template) throws LevelException {
+        Level level = template.newLevel();
+        play(replay, level);
+        return level;
+    }
+
+    /**
+     * Plays a replay on a level.
+     *
+     * @param replay Replay to play.
+     * @param level Level in the state where the recording started. The moves are done on it.
+     * @throws LevelException When some move is not legal in the level. The previous moves remain done.
+     * @throws IllegalArgumentException When the replay was not recorded on this level, or it undoes (redoes) a move
+     * when the level has no move to undo (redo). The previous moves remain done.
+     */
+    public static void play(Replay replay, Level level) throws LevelException {
+        if (level.hash() != replay.getLevelHash()) {
+            throw new IllegalArgumentException("The replay was not recorded on this level");
+        }
+        Replay.Decoder decoder = replay.decoder();
+        while (decoder.next()) {
+            switch (decoder.operation) {
+                case Replay.SWAP:
+                    level.swapCells(decoder.first, decoder.second);
+                    break;
+                case Replay.ROTATE:
+                    level.rotateCell(decoder.first);
+                    break;
+                case Replay.UNDO:
+                    if (!level.undo()) {
+                        throw new IllegalArgumentException("The replay undoes a move when there is no move to undo");
+                    }
+                    break;
+                default:
+                    if (!level.redo()) {
+                        throw new IllegalArgumentException("The replay redoes a move when there is no move to redo");
+                    }
+                    break;
+            }
+        }
+    }
+}
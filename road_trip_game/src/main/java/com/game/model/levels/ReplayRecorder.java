@@ -0,0 +1,126 @@
+package com.game.model.levels;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recorder of the moves done on a level, in the encoding described in {@link Replay}.<br/>
+ * The moves are appended to a growable byte array (usually 1 or 2 bytes per move), so recording does not allocate
+ * per move. The recorder must be created before the first move and must be told every move that succeeds.
+ *
+ * @version 1.0
+ */
+public final class ReplayRecorder {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int levelId;
+
+    private final long levelHash;
+
+    private final boolean timestamps;
+
+    private byte[] moves = new byte[INITIAL_CAPACITY];
+
+    private int length = 0;
+
+    private int numMoves = 0;
+
+    /**
+     * Index of the previous swap or rotation, from which the next index is encoded.
+     */
+    private int previous = 0;
+
+    /**
+     * Value of {@link System#nanoTime()} at the previous move.
+     */
+    private long lastTime;
+
+    /**
+     * Constructor
+     *
+     * @param levelId Number of the level.
+     * @param level Level whose moves are recorded, in its initial state.
+     * @param timestamps True to record the time between moves.
+     */
+    public ReplayRecorder(int levelId, Level level, boolean timestamps) {
+        this.levelId = levelId;
+        this.levelHash = level.hash();
+        this.timestamps = timestamps;
+        this.lastTime = System.nanoTime();
+    }
+
+    /**
+     * Records a swap.
+     *
+     * @param first Index (row * size + column) of the first cell.
+     * @param second Index (row * size + column) of the second cell.
+     */
+    public void recordSwap(int first, int second) {
+        recordMove(first, Replay.SWAP);
+        writeVarLong(zigzagEncode(second - first));
+    }
+
+    /**
+     * Records a rotation.
+     *
+     * @param index Index (row * size + column) of the cell.
+     */
+    public void recordRotate(int index) {
+        recordMove(index, Replay.ROTATE);
+    }
+
+    /**
+     * Records an undo, i.e. {@link Level#undo()} that returned true.
+     */
+    public void recordUndo() {
+        recordMove(previous, Replay.UNDO);
+    }
+
+    /**
+     * Records a redo, i.e. {@link Level#redo()} that returned true.
+     */
+    public void recordRedo() {
+        recordMove(previous, Replay.REDO);
+    }
+
+    public int getNumMoves() {
+        return numMoves;
+    }
+
+    /**
+     * Returns the moves recorded so far. The recorder can still be used afterwards.
+     *
+     * @return Replay.
+     */
+    public Replay toReplay() {
+        return new Replay(levelId, levelHash, timestamps, numMoves, Arrays.copyOf(moves, length));
+    }
+
+    private void recordMove(int index, int operation) {
+        if (timestamps) {
+            long now = System.nanoTime();
+            writeVarLong(TimeUnit.NANOSECONDS.toMillis(now - lastTime));
+            lastTime = now;
+        }
+        writeVarLong(zigzagEncode(index - previous) << Replay.OPERATION_BITS | operation);
+        previous = index;
+        numMoves++;
+    }
+
+    private void writeVarLong(long value) {
+        //A long takes 10 bytes at most
+        if (length + 10 > moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        while ((value & ~0x7FL) != 0) {
+            moves[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        moves[length++] = (byte) value;
+    }
+
+    private static long zigzagEncode(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+}
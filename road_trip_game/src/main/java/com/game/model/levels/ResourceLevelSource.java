@@ -0,0 +1,79 @@
+package com.game.model.levels;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Level source of the level files ("levelN.txt") of a folder of the classpath, e.g. the levels included in the game.
+ * The folder must have a manifest ({@link LevelManifest#FILE_NAME}), which is generated by the build.
+ *
+ * @version 1.0
+ */
+public final class ResourceLevelSource implements LevelSource {
+
+    private final String folder;
+
+    private final List<LevelInfo> levels;
+
+    /**
+     * Constructor
+     *
+     * @param folder Folder of the classpath, ending with "/" (e.g. "levels/").
+     * @throws IOException When the manifest of the folder does not exist or cannot be read.
+     */
+    public ResourceLevelSource(String folder) throws IOException {
+        this.folder = Objects.requireNonNull(folder);
+        URL manifest = ResourceLevelSource.class.getClassLoader().getResource(folder + LevelManifest.FILE_NAME);
+        if (manifest == null) {
+            throw new IOException("There is no " + LevelManifest.FILE_NAME + " in " + folder);
+        }
+        try (InputStream inputStream = manifest.openStream()) {
+            this.levels = LevelManifest.read(inputStream);
+        }
+    }
+
+    public String getFolder() {
+        return folder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumLevels() {
+        return levels.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LevelTemplate getTemplate(int numLevel) throws LevelException {
+        Objects.checkIndex(numLevel - 1, levels.size());
+        return new LevelTemplate(folder + "level" + numLevel + ".txt");
+    }
+
+    /**
+     * Returns the metadata of the given level, read from the manifest.
+     *
+     * @param numLevel Number of the level, from 1 to {@link #getNumLevels()}.
+     * @return Metadata of the level.
+     */
+    @Override
+    public LevelInfo getInfo(int numLevel) {
+        return levels.get(numLevel - 1);
+    }
+
+    /**
+     * Returns the metadata of all the levels, read from the manifest.
+     *
+     * @return Unmodifiable list with the metadata of the levels.
+     */
+    @Override
+    public List<LevelInfo> getLevels() {
+        return levels;
+    }
+}
@@ -0,0 +1,240 @@
+package com.game.model.levels;
+
+import java.util.Arrays;
+
+/**
+ * Route that leaves the START cell of a board, kept up to date while the board changes.<br/>
+ * It stores the cells of the route (the prefix of the road that is connected to the START cell)
+ * and its frontier, i.e. the cell that the route points at but does not connect with. When a cell changes,
+ * only the part of the route from that cell on is traced again, and changes to cells that are neither
+ * in the route nor in its frontier are answered without tracing at all.
+ *
+ * @version 1.0
+ */
+final class Route {
+
+    /**
+     * Value of the attribute "frontier" when the route points out of the board or reaches the FINISH cell.
+     */
+    static final int NO_FRONTIER = -1;
+
+    /**
+     * Initial capacity of the attributes "cells" and "exits". They grow with the route, since routes are usually
+     * much shorter than the number of cells of the board.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Positions (indexes in the board) of the cells of the route. The first one is the START cell.
+     */
+    private int[] cells;
+
+    /**
+     * Direction (ordinal) in which the route leaves each cell of the route.
+     */
+    private byte[] exits;
+
+    /**
+     * Bitset of the positions of the board that are in the route. It takes 1 bit per cell of the board,
+     * and the step of a position in the route is only looked for when the position is in it.
+     */
+    private long[] members;
+
+    /**
+     * Number of cells of the route.
+     */
+    private int length;
+
+    /**
+     * Position of the cell that the route points at but does not connect with, or {@link #NO_FRONTIER}.
+     */
+    private int frontier;
+
+    /**
+     * True if the route reaches the FINISH cell.
+     */
+    private boolean solved;
+
+    /**
+     * Constructor. It traces the route of the given board.
+     *
+     * @param board Board as an array of CellType ordinals.
+     * @param size Size of the board.
+     * @param start Index of the START cell.
+     */
+    Route(byte[] board, int size, int start) {
+        cells = new int[Math.min(board.length, INITIAL_CAPACITY)];
+        exits = new byte[cells.length];
+        members = new long[(board.length + Long.SIZE - 1) / Long.SIZE];
+        cells[0] = start;
+        exits[0] = (byte) RouteTracer.START_EXIT;
+        members[start >>> 6] |= 1L << start;
+        length = 1;
+        trace(board, size);
+    }
+
+    /**
+     * Copy constructor.
+     *
+     * @param route Route to copy.
+     */
+    private Route(Route route) {
+        cells = Arrays.copyOf(route.cells, Math.max(route.length, INITIAL_CAPACITY));
+        exits = Arrays.copyOf(route.exits, cells.length);
+        members = route.members.clone();
+        length = route.length;
+        frontier = route.frontier;
+        solved = route.solved;
+    }
+
+    /**
+     * Returns an independent copy of this route.
+     *
+     * @return Copy of this route.
+     */
+    Route copy() {
+        return new Route(this);
+    }
+
+    /**
+     * Makes this route equal to the given one, reusing its arrays. Both routes must be of boards of the same size.
+     * The cost depends on the length of the routes, not on the size of the board.
+     *
+     * @param route Route to copy.
+     */
+    void copyFrom(Route route) {
+        truncate(0);
+        if (cells.length < route.length) {
+            cells = new int[route.cells.length];
+            exits = new byte[route.cells.length];
+        }
+        System.arraycopy(route.cells, 0, cells, 0, route.length);
+        System.arraycopy(route.exits, 0, exits, 0, route.length);
+        for (int i = 0; i < route.length; i++) {
+            members[cells[i] >>> 6] |= 1L << cells[i];
+        }
+        length = route.length;
+        frontier = route.frontier;
+        solved = route.solved;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    int getFrontier() {
+        return frontier;
+    }
+
+    boolean isSolved() {
+        return solved;
+    }
+
+    /**
+     * Updates the route after the cells in the given positions have changed in the board.
+     * Both positions can be the same (e.g. for a rotation).
+     *
+     * @param board Board as an array of CellType ordinals, already changed.
+     * @param size Size of the board.
+     * @param first Position of the first changed cell.
+     * @param second Position of the second changed cell.
+     */
+    void update(byte[] board, int size, int first, int second) {
+        int step = Math.min(stepOf(first), stepOf(second));
+
+        if (step < length) {
+            truncate(step);
+            trace(board, size);
+        } else if (frontier != NO_FRONTIER && (first == frontier || second == frontier)) {
+            trace(board, size);
+        }
+    }
+
+    /**
+     * Returns the step of the given position in the route, or Integer.MAX_VALUE if it is not in the route.
+     * The START cell (step 0) never changes, so it is never returned for a changed cell.
+     */
+    private int stepOf(int index) {
+        if ((members[index >>> 6] & (1L << index)) == 0) {
+            return Integer.MAX_VALUE;
+        }
+        //The route is traced again from this step on, so looking for it does not change the cost of the update
+        int step = 1;
+        while (cells[step] != index) {
+            step++;
+        }
+        return step;
+    }
+
+    /**
+     * Removes from the route the cells whose step is equal to or greater than the given one.
+     */
+    private void truncate(int step) {
+        for (int i = step; i < length; i++) {
+            members[cells[i] >>> 6] &= ~(1L << cells[i]);
+        }
+        length = step;
+    }
+
+    /**
+     * Extends the route from its last cell as long as the cells are connected.
+     */
+    private void trace(byte[] board, int size) {
+        int last = cells[length - 1];
+        int row = last / size;
+        int column = last % size;
+        int direction = exits[length - 1];
+
+        solved = false;
+        frontier = NO_FRONTIER;
+
+        while (length < board.length) {
+            row += RouteTracer.D_ROW[direction];
+            column += RouteTracer.D_COLUMN[direction];
+
+            if (row < 0 || row >= size || column < 0 || column >= size) {
+                return;
+            }
+
+            int index = row * size + column;
+            int type = board[index];
+            int side = RouteTracer.OPPOSITE[direction];
+
+            if (type == RouteTracer.FINISH) {
+                if ((RouteTracer.MASK[type] & (1 << side)) != 0) {
+                    append(index, side);
+                    solved = true;
+                } else {
+                    frontier = index;
+                }
+                return;
+            }
+
+            direction = RouteTracer.EXIT[type * RouteTracer.DIRECTIONS + side];
+            if (direction == RouteTracer.NO_EXIT) {
+                frontier = index;
+                return;
+            }
+            append(index, direction);
+        }
+    }
+
+    /**
+     * Adds the cell in the given position at the end of the route.
+     */
+    private void append(int index, int exit) {
+        if (length == cells.length) {
+            cells = Arrays.copyOf(cells, cells.length * 2);
+            exits = Arrays.copyOf(exits, cells.length);
+        }
+        cells[length] = index;
+        exits[length] = (byte) exit;
+        members[index >>> 6] |= 1L << index;
+        length++;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(cells, length)) + (solved ? " solved" : " frontier=" + frontier);
+    }
+}
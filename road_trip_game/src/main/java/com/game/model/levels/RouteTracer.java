@@ -0,0 +1,143 @@
+package com.game.model.levels;
+
+import com.game.model.cells.CellType;
+
+/**
+ * Table-driven tracer of the route that starts in the START cell of a board.<br/>
+ * Boards are arrays of CellType ordinals in row-major order (see {@link Level}). The tracer only reads
+ * precomputed primitive tables, so it does not allocate any object while following the route.
+ *
+ * @version 1.0
+ */
+final class RouteTracer {
+
+    /**
+     * Value of {@link #EXIT} when a cell cannot be entered through the given side.
+     */
+    static final int NO_EXIT = -1;
+
+    /**
+     * Number of directions.
+     */
+    static final int DIRECTIONS = 4;
+
+    /**
+     * Row increment of each direction, indexed by the ordinal of Direction.
+     */
+    static final int[] D_ROW = new int[DIRECTIONS];
+
+    /**
+     * Column increment of each direction, indexed by the ordinal of Direction.
+     */
+    static final int[] D_COLUMN = new int[DIRECTIONS];
+
+    /**
+     * Opposite of each direction, indexed by the ordinal of Direction.
+     */
+    static final int[] OPPOSITE = new int[DIRECTIONS];
+
+    /**
+     * Connection mask of each cell type, indexed by the ordinal of CellType.
+     */
+    static final int[] MASK = new int[CellType.values().length];
+
+    /**
+     * Transition table. The entry (type * 4 + side) is the direction in which the route leaves a cell of the given type
+     * when it has entered through the given side, or {@link #NO_EXIT} when the cell does not connect with that side.
+     */
+    static final int[] EXIT = new int[CellType.values().length * DIRECTIONS];
+
+    /**
+     * Ordinal of the START cell type.
+     */
+    static final int START = CellType.START.ordinal();
+
+    /**
+     * Ordinal of the FINISH cell type.
+     */
+    static final int FINISH = CellType.FINISH.ordinal();
+
+    /**
+     * Direction in which the route leaves the START cell.
+     */
+    static final int START_EXIT = Integer.numberOfTrailingZeros(CellType.START.getConnectionMask());
+
+    static {
+        for (Direction direction : Direction.values()) {
+            D_ROW[direction.ordinal()] = direction.getDRow();
+            D_COLUMN[direction.ordinal()] = direction.getDColumn();
+            OPPOSITE[direction.ordinal()] = direction.getOpposite().ordinal();
+        }
+
+        for (CellType type : CellType.values()) {
+            int mask = type.getConnectionMask();
+            MASK[type.ordinal()] = mask;
+            for (int side = 0; side < DIRECTIONS; side++) {
+                int others = mask & ~(1 << side);
+                //The route goes on only if it enters through a connection and there is exactly one other connection.
+                EXIT[type.ordinal() * DIRECTIONS + side] = ((mask & (1 << side)) != 0 && Integer.bitCount(others) == 1)
+                        ? Integer.numberOfTrailingZeros(others) : NO_EXIT;
+            }
+        }
+    }
+
+    private RouteTracer() {
+    }
+
+    /**
+     * Returns the position of the START cell, which must be in the last row of the board.
+     *
+     * @param board Board as an array of CellType ordinals.
+     * @param size Size of the board.
+     * @return Index of the START cell, or -1 if there is none.
+     */
+    static int findStart(byte[] board, int size) {
+        for (int index = (size - 1) * size; index < size * size; index++) {
+            if (board[index] == START) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if there is a path from the START cell in the given position to the FINISH cell.
+     *
+     * @param board Board as an array of CellType ordinals.
+     * @param size Size of the board.
+     * @param start Index of the START cell.
+     * @return True if the route that leaves the START cell reaches the FINISH cell, otherwise false.
+     */
+    static boolean isSolved(byte[] board, int size, int start) {
+        if (start < 0) {
+            return false;
+        }
+
+        int row = start / size;
+        int column = start % size;
+        int direction = START_EXIT;
+
+        //A route cannot visit a cell twice, so it never has more steps than cells.
+        for (int steps = 0; steps < board.length; steps++) {
+            row += D_ROW[direction];
+            column += D_COLUMN[direction];
+
+            if (row < 0 || row >= size || column < 0 || column >= size) {
+                return false;
+            }
+
+            int type = board[row * size + column];
+            int side = OPPOSITE[direction];
+
+            if (type == FINISH) {
+                return (MASK[type] & (1 << side)) != 0;
+            }
+
+            direction = EXIT[type * DIRECTIONS + side];
+            if (direction == NO_EXIT) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
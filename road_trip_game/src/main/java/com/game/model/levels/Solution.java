@@ -0,0 +1,127 @@
+package com.game.model.levels;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class that represents the result of solving a level, together with the statistics of the search.
+ *
+ * @version 1.0
+ */
+public final class Solution {
+
+    /**
+     * Outcome of a search.
+     */
+    public enum Status {
+        /**
+         * The search found a minimal sequence of moves that solves the level.
+         */
+        SOLVED,
+        /**
+         * The search reached every board state without finding a solved one, so the level cannot be solved.
+         */
+        UNSOLVABLE,
+        /**
+         * The search gave up after expanding the maximum number of board states, so it is unknown whether
+         * the level can be solved.
+         */
+        EXHAUSTED
+    }
+
+    /**
+     * Outcome of the search.
+     */
+    private final Status status;
+
+    /**
+     * Minimal sequence of moves that solves the level, or {@code null} when no solution was found.
+     */
+    private final List<Move> moves;
+
+    /**
+     * Number of board states that have been expanded during the search.
+     */
+    private final long nodesExpanded;
+
+    /**
+     * Highest amount of heap (in bytes) used by the search over the heap in use when it started.
+     */
+    private final long peakMemory;
+
+    /**
+     * Wall time (in nanoseconds) that the search took.
+     */
+    private final long wallTime;
+
+    /**
+     * Constructor
+     *
+     * @param status Outcome of the search.
+     * @param moves Moves that solve the level, or {@code null} when no solution was found.
+     * @param nodesExpanded Number of board states that have been expanded.
+     * @param peakMemory Peak heap (in bytes) used by the search.
+     * @param wallTime Wall time (in nanoseconds) of the search.
+     */
+    Solution(Status status, List<Move> moves, long nodesExpanded, long peakMemory, long wallTime) {
+        this.status = status;
+        this.moves = moves == null ? null : Collections.unmodifiableList(moves);
+        this.nodesExpanded = nodesExpanded;
+        this.peakMemory = peakMemory;
+        this.wallTime = wallTime;
+    }
+
+    /**
+     * Returns the outcome of the search.
+     *
+     * @return {@link Status#SOLVED}, {@link Status#UNSOLVABLE} or {@link Status#EXHAUSTED} when the search gave up.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Indicates if the search found a sequence of moves that solves the level.
+     *
+     * @return True if the level can be solved, otherwise false (the level cannot be solved or the search gave up).
+     */
+    public boolean isSolvable() {
+        return status == Status.SOLVED;
+    }
+
+    /**
+     * Returns the minimal sequence of moves that solves the level.
+     *
+     * @return Unmodifiable list of moves, or {@code null} when no solution was found.
+     */
+    public List<Move> getMoves() {
+        return moves;
+    }
+
+    /**
+     * Returns the minimal number of moves needed to solve the level.
+     *
+     * @return Number of moves, or -1 when no solution was found.
+     */
+    public int getNumMoves() {
+        return moves == null ? -1 : moves.size();
+    }
+
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    public long getPeakMemory() {
+        return peakMemory;
+    }
+
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s, moves=%d, nodes=%d, peakMemory=%dKB, wallTime=%.3fms",
+                status, getNumMoves(), nodesExpanded, peakMemory / 1024, wallTime / 1_000_000.0);
+    }
+}
@@ -0,0 +1,52 @@
+package com.game.model.levels;
+
+import java.util.Objects;
+
+/**
+ * Solution of a level submitted by a player (e.g. to a leaderboard): the recorded moves and the number of moves
+ * that the player claims.
+ *
+ * @version 1.0
+ */
+public final class Submission {
+
+    private final String id;
+
+    private final Replay replay;
+
+    private final int claimedMoves;
+
+    /**
+     * Constructor
+     *
+     * @param id Identifier of the submission.
+     * @param replay Moves of the player. It also identifies the level.
+     * @param claimedMoves Number of moves that the player claims, i.e. {@link Level#getNumMoves()} after the moves.
+     */
+    public Submission(String id, Replay replay, int claimedMoves) {
+        this.id = Objects.requireNonNull(id);
+        this.replay = Objects.requireNonNull(replay);
+        this.claimedMoves = claimedMoves;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Replay getReplay() {
+        return replay;
+    }
+
+    public int getLevelId() {
+        return replay.getLevelId();
+    }
+
+    public int getClaimedMoves() {
+        return claimedMoves;
+    }
+
+    @Override
+    public String toString() {
+        return "Submission " + id + " of level " + getLevelId() + " with " + claimedMoves + " moves";
+    }
+}
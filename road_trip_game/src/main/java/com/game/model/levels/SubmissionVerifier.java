@@ -0,0 +1,181 @@
+package com.game.model.levels;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Verifier of batches of {@link Submission}s, e.g. for a leaderboard.<br/>
+ * Each level is loaded once from the source and its template is shared by all the workers. Every worker keeps one
+ * level per template, which is reset (its board is copied in place) before each submission, so verifying a
+ * submission only costs playing its moves. The moves are played with {@link ReplayPlayer}, i.e. with the rules of
+ * {@link Level#swapCells} and {@link Level#rotateCell}.
+ *
+ * @version 1.0
+ */
+public final class SubmissionVerifier implements AutoCloseable {
+
+    /**
+     * Number of submissions that a worker verifies in a row.
+     */
+    private static final int CHUNK_SIZE = 64;
+
+    /**
+     * Source of the levels. Each level is only loaded once, so all the workers get the same template.
+     */
+    private final LevelSource source;
+
+    private final int parallelism;
+
+    /**
+     * Levels of each thread, by template. They are reused by all the submissions of the same level.
+     */
+    private final ThreadLocal<Map<LevelTemplate, Level>> levels = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    private final ExecutorService workers;
+
+    /**
+     * Constructor that uses as many workers as available processors.
+     *
+     * @param source Source of the levels of the submissions.
+     */
+    public SubmissionVerifier(LevelSource source) {
+        this(source, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param source Source of the levels of the submissions.
+     * @param parallelism Number of worker threads.
+     */
+    public SubmissionVerifier(LevelSource source, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.source = LevelSource.cached(Objects.requireNonNull(source));
+        this.parallelism = parallelism;
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "submission-verifier-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Verifies a batch of submissions in parallel.
+     *
+     * @param submissions Submissions to verify.
+     * @return Stream with one result per submission, in the order in which they are verified. Reading it blocks until
+     * the next result is available.
+     */
+    public Stream<VerificationResult> verifyAll(List<Submission> submissions) {
+        BlockingQueue<VerificationResult> results = new LinkedBlockingQueue<>();
+        for (int from = 0; from < submissions.size(); from += CHUNK_SIZE) {
+            List<Submission> chunk = submissions.subList(from, Math.min(from + CHUNK_SIZE, submissions.size()));
+            workers.execute(() -> {
+                for (Submission submission : chunk) {
+                    results.add(verifySafely(submission));
+                }
+            });
+        }
+        return Stream.generate(() -> takeResult(results)).limit(submissions.size());
+    }
+
+    /**
+     * Verifies a submission in the calling thread.
+     *
+     * @param submission Submission to verify.
+     * @return Result of the verification.
+     */
+    public VerificationResult verify(Submission submission) {
+        int levelId = submission.getLevelId();
+        if (levelId < 1 || levelId > source.getNumLevels()) {
+            return new VerificationResult(submission, VerificationResult.Status.UNKNOWN_LEVEL, -1, null);
+        }
+
+        Level level;
+        try {
+            level = getLevel(levelId);
+        } catch (LevelException e) {
+            return new VerificationResult(submission, VerificationResult.Status.INVALID_LEVEL, -1, e.getMessage());
+        }
+
+        if (level.hash() != submission.getReplay().getLevelHash()) {
+            return new VerificationResult(submission, VerificationResult.Status.WRONG_LEVEL, -1,
+                    "The replay was not recorded on this level");
+        }
+
+        try {
+            ReplayPlayer.play(submission.getReplay(), level);
+            if (!level.isSolved()) {
+                return new VerificationResult(submission, VerificationResult.Status.NOT_SOLVED, level.getNumMoves(), null);
+            }
+        } catch (IllegalArgumentException | LevelException e) {
+            //IllegalArgumentException: an undo (redo) with no move to undo (redo)
+            return new VerificationResult(submission, VerificationResult.Status.ILLEGAL_MOVE, level.getNumMoves(), e.getMessage());
+        }
+
+        if (level.getNumMoves() != submission.getClaimedMoves()) {
+            return new VerificationResult(submission, VerificationResult.Status.WRONG_NUM_MOVES, level.getNumMoves(), null);
+        }
+        return new VerificationResult(submission, VerificationResult.Status.VALID, level.getNumMoves(), null);
+    }
+
+    /**
+     * Stops the workers. Results that have not been verified yet are never added to their streams.
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Verifies a submission, so that a worker always produces a result, even when the verification fails unexpectedly
+     * (otherwise the stream of results would wait for it forever).
+     */
+    private VerificationResult verifySafely(Submission submission) {
+        try {
+            return verify(submission);
+        } catch (RuntimeException e) {
+            return new VerificationResult(submission, VerificationResult.Status.ERROR, -1, e.toString());
+        }
+    }
+
+    private static VerificationResult takeResult(BlockingQueue<VerificationResult> results) {
+        try {
+            return results.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the results", e);
+        }
+    }
+
+    /**
+     * Returns the level of this thread for the given number of level, in its initial state.
+     */
+    private Level getLevel(int levelId) throws LevelException {
+        LevelTemplate template = source.getTemplate(levelId);
+        Map<LevelTemplate, Level> threadLevels = levels.get();
+        Level level = threadLevels.get(template);
+        if (level == null) {
+            level = template.newLevel();
+            threadLevels.put(template, level);
+        } else {
+            template.reset(level);
+        }
+        return level;
+    }
+}
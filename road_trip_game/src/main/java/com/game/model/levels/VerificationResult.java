@@ -0,0 +1,105 @@
+package com.game.model.levels;
+
+/**
+ * Result of the verification of a {@link Submission} by {@link SubmissionVerifier}.
+ *
+ * @version 1.0
+ */
+public final class VerificationResult {
+
+    /**
+     * Outcome of a verification.
+     */
+    public enum Status {
+        /**
+         * The moves are legal, solve the level and their number is the claimed one.
+         */
+        VALID,
+        /**
+         * The source of levels has no level with the number of the submission.
+         */
+        UNKNOWN_LEVEL,
+        /**
+         * The level of the submission cannot be loaded.
+         */
+        INVALID_LEVEL,
+        /**
+         * The moves were recorded on a different version of the level.
+         */
+        WRONG_LEVEL,
+        /**
+         * Some move is not legal, including an undo (redo) when there is no move to undo (redo).
+         */
+        ILLEGAL_MOVE,
+        /**
+         * The moves are legal, but the level is not solved after them.
+         */
+        NOT_SOLVED,
+        /**
+         * The moves solve the level, but their number is not the claimed one.
+         */
+        WRONG_NUM_MOVES,
+        /**
+         * The verification failed unexpectedly.
+         */
+        ERROR
+    }
+
+    private final Submission submission;
+
+    private final Status status;
+
+    private final int numMoves;
+
+    private final String message;
+
+    /**
+     * Constructor
+     *
+     * @param submission Verified submission.
+     * @param status Outcome of the verification.
+     * @param numMoves Number of moves of the level after playing the submission, or -1 if it could not be played.
+     * @param message Description of the error, or {@code null} if there is no error.
+     */
+    VerificationResult(Submission submission, Status status, int numMoves, String message) {
+        this.submission = submission;
+        this.status = status;
+        this.numMoves = numMoves;
+        this.message = message;
+    }
+
+    public Submission getSubmission() {
+        return submission;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    /**
+     * Returns the number of moves of the level after playing the submission.
+     *
+     * @return Number of moves, or -1 if the submission could not be played.
+     */
+    public int getNumMoves() {
+        return numMoves;
+    }
+
+    /**
+     * Returns the description of the error.
+     *
+     * @return Message of the error (e.g. of the illegal move), or {@code null} if there is no error.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return submission.getId() + ": " + status + (message == null ? "" : " (" + message + ")");
+    }
+}
@@ -0,0 +1,313 @@
+package com.game.model.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime metrics of the game, shared by all the games of the JVM: number of moves (and of moves rejected with a
+ * {@link com.game.model.levels.LevelException}), latency of loading and parsing levels, and latency of checking if
+ * a board is solved, per board size.<br/>
+ * Counters are striped {@link LongAdder}s and latencies are {@link LatencyHistogram}s, so games in different threads
+ * do not contend. Moves are not counted here one by one but by a {@link MetricsRecorder} per game.
+ * <br/><br/>
+ * Metrics are enabled by default. They can be disabled at runtime with {@link #setEnabled(boolean)} (or through JMX),
+ * or entirely with the system property {@code -Dgame.metrics=false}, in which case the JIT compiler removes the
+ * instrumentation and they cannot be enabled again.
+ *
+ * @version 1.0
+ */
+public final class GameMetrics {
+
+    /**
+     * Name of the MBean.
+     */
+    public static final String OBJECT_NAME = "com.game:type=GameMetrics";
+
+    /**
+     * False if metrics have been disabled with the system property "game.metrics".
+     */
+    private static final boolean AVAILABLE = !"false".equalsIgnoreCase(System.getProperty("game.metrics"));
+
+    private static volatile boolean enabled = AVAILABLE;
+
+    private static boolean registered = false;
+
+    static final LongAdder SWAPS = new LongAdder();
+
+    static final LongAdder FAILED_SWAPS = new LongAdder();
+
+    static final LongAdder ROTATIONS = new LongAdder();
+
+    static final LongAdder FAILED_ROTATIONS = new LongAdder();
+
+    static final LongAdder LEVEL_LOADS = new LongAdder();
+
+    static final LongAdder FAILED_LEVEL_LOADS = new LongAdder();
+
+    static final LongAdder SOLVED_CHECKS = new LongAdder();
+
+    /**
+     * Latency of loading a level in a game, i.e. of getting its template (which may have to be parsed) and copying it.
+     */
+    static final LatencyHistogram LEVEL_LOAD = new LatencyHistogram();
+
+    /**
+     * Latency of parsing a level file into a template.
+     */
+    static final LatencyHistogram LEVEL_PARSE = new LatencyHistogram();
+
+    /**
+     * Latency of (a sample of the) calls to isSolved(), by board size.
+     */
+    private static final ConcurrentMap<Integer, LatencyHistogram> SOLVED = new ConcurrentHashMap<>();
+
+    private GameMetrics() {
+    }
+
+    /**
+     * Indicates if metrics are being recorded.
+     *
+     * @return True if metrics are enabled.
+     */
+    public static boolean isEnabled() {
+        return AVAILABLE && enabled;
+    }
+
+    /**
+     * Enables or disables the recording of metrics. Metrics that have already been recorded are kept.
+     * It has no effect if metrics have been disabled with the system property "game.metrics".
+     *
+     * @param enabled True to record metrics.
+     */
+    public static void setEnabled(boolean enabled) {
+        GameMetrics.enabled = enabled;
+    }
+
+    /**
+     * Records the time spent parsing a level file.
+     *
+     * @param nanos Latency in nanoseconds.
+     */
+    public static void recordLevelParse(long nanos) {
+        if (isEnabled()) {
+            LEVEL_PARSE.record(nanos);
+        }
+    }
+
+    /**
+     * Records the loading of a level.
+     *
+     * @param nanos Latency in nanoseconds.
+     * @param success False if the level could not be loaded.
+     */
+    public static void recordLevelLoad(long nanos, boolean success) {
+        if (isEnabled()) {
+            if (success) {
+                LEVEL_LOADS.increment();
+                LEVEL_LOAD.record(nanos);
+            } else {
+                FAILED_LEVEL_LOADS.increment();
+            }
+        }
+    }
+
+    /**
+     * Records a swap that has been rejected.
+     */
+    public static void recordFailedSwap() {
+        if (isEnabled()) {
+            FAILED_SWAPS.increment();
+        }
+    }
+
+    /**
+     * Records a rotation that has been rejected.
+     */
+    public static void recordFailedRotation() {
+        if (isEnabled()) {
+            FAILED_ROTATIONS.increment();
+        }
+    }
+
+    /**
+     * Records the latency of a call to isSolved().
+     *
+     * @param size Size of the board.
+     * @param nanos Latency in nanoseconds.
+     */
+    static void recordSolved(int size, long nanos) {
+        SOLVED.computeIfAbsent(size, key -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Returns the histogram of the latency of isSolved() for a board size.
+     *
+     * @param size Size of the board.
+     * @return Histogram, or {@code null} if no board of that size has been sampled.
+     */
+    public static LatencyHistogram getSolvedLatency(int size) {
+        return SOLVED.get(size);
+    }
+
+    public static LatencyHistogram getLevelLoadLatency() {
+        return LEVEL_LOAD;
+    }
+
+    public static LatencyHistogram getLevelParseLatency() {
+        return LEVEL_PARSE;
+    }
+
+    /**
+     * Returns the current value of all the metrics. Histograms are flattened into their count, mean, percentiles
+     * 50 and 99, and maximum. Moves that a {@link MetricsRecorder} has not flushed yet are not included.
+     *
+     * @return Value of each metric, sorted by name.
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        snapshot.put("moves.swaps", SWAPS.sum());
+        snapshot.put("moves.swaps.failed", FAILED_SWAPS.sum());
+        snapshot.put("moves.rotations", ROTATIONS.sum());
+        snapshot.put("moves.rotations.failed", FAILED_ROTATIONS.sum());
+        snapshot.put("level.loads", LEVEL_LOADS.sum());
+        snapshot.put("level.loads.failed", FAILED_LEVEL_LOADS.sum());
+        snapshot.put("solved.checks", SOLVED_CHECKS.sum());
+        putHistogram(snapshot, "level.load", LEVEL_LOAD);
+        putHistogram(snapshot, "level.parse", LEVEL_PARSE);
+        SOLVED.forEach((size, histogram) -> putHistogram(snapshot, "solved.size" + size, histogram));
+        return snapshot;
+    }
+
+    private static void putHistogram(Map<String, Long> snapshot, String name, LatencyHistogram histogram) {
+        snapshot.put(name + ".count", histogram.getCount());
+        snapshot.put(name + ".mean", histogram.getMean());
+        snapshot.put(name + ".p50", histogram.getPercentile(0.50));
+        snapshot.put(name + ".p99", histogram.getPercentile(0.99));
+        snapshot.put(name + ".max", histogram.getMax());
+    }
+
+    /**
+     * Writes the current value of all the metrics to a file, one "name=value" line per metric
+     * (so it can be read as a {@link java.util.Properties} file).
+     *
+     * @param file Path of the file. It is overwritten if it exists.
+     * @throws IOException When the file cannot be written.
+     */
+    public static void writeSnapshot(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        snapshot().forEach((name, value) -> lines.add(name + "=" + value));
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server as {@value #OBJECT_NAME}. Calling it again has no effect.
+     */
+    public static synchronized void registerMBean() {
+        if (registered) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new Bean(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            //Registered by another class loader
+        } catch (JMException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            return;
+        }
+        registered = true;
+    }
+
+    /**
+     * MBean that exposes the metrics.
+     */
+    private static final class Bean implements GameMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return GameMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            GameMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public long getSwaps() {
+            return SWAPS.sum();
+        }
+
+        @Override
+        public long getFailedSwaps() {
+            return FAILED_SWAPS.sum();
+        }
+
+        @Override
+        public long getRotations() {
+            return ROTATIONS.sum();
+        }
+
+        @Override
+        public long getFailedRotations() {
+            return FAILED_ROTATIONS.sum();
+        }
+
+        @Override
+        public long getLevelLoads() {
+            return LEVEL_LOADS.sum();
+        }
+
+        @Override
+        public long getFailedLevelLoads() {
+            return FAILED_LEVEL_LOADS.sum();
+        }
+
+        @Override
+        public long getLevelLoadMean() {
+            return LEVEL_LOAD.getMean();
+        }
+
+        @Override
+        public long getLevelLoadP99() {
+            return LEVEL_LOAD.getPercentile(0.99);
+        }
+
+        @Override
+        public long getLevelParseMean() {
+            return LEVEL_PARSE.getMean();
+        }
+
+        @Override
+        public long getLevelParseP99() {
+            return LEVEL_PARSE.getPercentile(0.99);
+        }
+
+        @Override
+        public long getSolvedChecks() {
+            return SOLVED_CHECKS.sum();
+        }
+
+        @Override
+        public Map<String, Long> getSnapshot() {
+            return snapshot();
+        }
+
+        @Override
+        public void dumpSnapshot(String file) throws IOException {
+            writeSnapshot(Path.of(file));
+        }
+    }
+}
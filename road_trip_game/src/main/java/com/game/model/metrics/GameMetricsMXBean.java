@@ -0,0 +1,54 @@
+package com.game.model.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Management interface of {@link GameMetrics}, registered as "com.game:type=GameMetrics".
+ * Latencies are in nanoseconds.
+ *
+ * @version 1.0
+ */
+public interface GameMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getSwaps();
+
+    long getFailedSwaps();
+
+    long getRotations();
+
+    long getFailedRotations();
+
+    long getLevelLoads();
+
+    long getFailedLevelLoads();
+
+    long getLevelLoadMean();
+
+    long getLevelLoadP99();
+
+    long getLevelParseMean();
+
+    long getLevelParseP99();
+
+    long getSolvedChecks();
+
+    /**
+     * Returns all the metrics, including the latencies of isSolved() per board size.
+     *
+     * @return Value of each metric, sorted by name.
+     */
+    Map<String, Long> getSnapshot();
+
+    /**
+     * Writes all the metrics to a file, one "name=value" line per metric.
+     *
+     * @param file Path of the file. It is overwritten if it exists.
+     * @throws IOException When the file cannot be written.
+     */
+    void dumpSnapshot(String file) throws IOException;
+}
@@ -0,0 +1,88 @@
+package com.game.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies (in nanoseconds) with one bucket per power of two: bucket i counts the latencies
+ * from 2^(i-1) to 2^i - 1 (bucket 0 counts the latencies of 0ns). Recording a latency is an atomic increment of its
+ * bucket plus two striped counters, so many threads can record at the same time without contention on a lock.
+ * Percentiles are approximated by the upper bound of their bucket, i.e. with an error of up to 2x.
+ *
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Number of buckets: one per bit of a long.
+     */
+    private static final int NUM_BUCKETS = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder total = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos Latency in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        buckets.incrementAndGet(NUM_BUCKETS - Long.numberOfLeadingZeros(latency));
+        count.increment();
+        total.add(latency);
+        max.accumulate(latency);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return Mean latency in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : total.sum() / n;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns an approximation of a percentile: the upper bound of the bucket that contains it.
+     *
+     * @param percentile Percentile between 0 and 1, e.g. 0.99.
+     * @return Latency in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[NUM_BUCKETS];
+        long n = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            n += counts[i];
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * n);
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) {
+                //The maximum is a tighter bound for the last bucket
+                return Math.min(i == 0 ? 0 : (1L << i) - 1, getMax());
+            }
+        }
+        return getMax();
+    }
+}
@@ -0,0 +1,72 @@
+package com.game.model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class of the JDK Flight Recorder events of the game. The events are meant to be created and begun before the
+ * action and recorded with {@link #record(int, Enum, int, String)} after it: when no recording is running (or the
+ * event is disabled in it), begin() and record() do nothing and the JIT compiler removes the allocation of the event,
+ * so they can be left in the code.
+ *
+ * @version 1.0
+ */
+@Category("Road Trip")
+@StackTrace(false)
+public abstract class LevelEvent extends Event {
+
+    /**
+     * Outcome of an action that has been completed.
+     */
+    public static final String OUTCOME_OK = "ok";
+
+    //The fields are protected because Flight Recorder ignores the private fields of superclasses
+
+    @Label("Level")
+    @Description("Number of the level, or 0 when the action is done on a level without a number (e.g. by the model)")
+    protected int level;
+
+    @Label("Board Size")
+    protected int size;
+
+    @Label("Difficulty")
+    protected String difficulty;
+
+    @Label("Moves")
+    @Description("Number of moves of the level after the action")
+    protected int moves;
+
+    @Label("Outcome")
+    @Description("\"ok\", the result of the action, or the message of the error that made it fail")
+    protected String outcome;
+
+    /**
+     * Sets the number of the level.
+     *
+     * @param level Number of the level.
+     */
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    /**
+     * Ends the event and commits it if it has to be recorded.
+     *
+     * @param size Size of the board.
+     * @param difficulty Difficulty of the level, or {@code null} if it is not known.
+     * @param moves Number of moves of the level.
+     * @param outcome Outcome of the action.
+     */
+    public void record(int size, Enum<?> difficulty, int moves, String outcome) {
+        if (shouldCommit()) {
+            this.size = size;
+            this.difficulty = difficulty == null ? null : difficulty.name();
+            this.moves = moves;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
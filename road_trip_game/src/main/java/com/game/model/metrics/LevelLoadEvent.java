@@ -0,0 +1,16 @@
+package com.game.model.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event of loading (or reloading) a level in a game.
+ *
+ * @version 1.0
+ */
+@Name("com.game.LevelLoad")
+@Label("Level Load")
+@Description("A level is loaded or reloaded in a game")
+public class LevelLoadEvent extends LevelEvent {
+}
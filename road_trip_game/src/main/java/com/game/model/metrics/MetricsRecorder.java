@@ -0,0 +1,99 @@
+package com.game.model.metrics;
+
+/**
+ * Recorder of the metrics of the moves of one game. It is not thread-safe: each game has its own.<br/>
+ * Events are counted in plain fields and added to the shared counters of {@link GameMetrics} every
+ * {@value #FLUSH_INTERVAL} moves of a kind, every {@value #SAMPLE_INTERVAL} calls to isSolved() (when one of them
+ * is timed) and on {@link #flush()}, which the game calls when a level is loaded and when it ends. Recording a move
+ * or a call to isSolved() costs an increment and a test instead of an atomic operation or two calls to
+ * {@link System#nanoTime()}.
+ *
+ * @version 1.0
+ */
+public final class MetricsRecorder {
+
+    /**
+     * Number of moves of a kind counted locally before adding them to the shared counters, which bounds how far
+     * the shared counters lag behind a game that is being played.
+     */
+    static final int FLUSH_INTERVAL = 1024;
+
+    /**
+     * Sampling interval of the latency of isSolved(). It must be a power of two.
+     */
+    static final int SAMPLE_INTERVAL = 1024;
+
+    private int swaps = 0;
+
+    private int rotations = 0;
+
+    /**
+     * Number of calls to isSolved() since the game was created. It is used for sampling, so flushing does not
+     * reset it. It may overflow, since only its difference with {@link #flushedSolvedCalls} is added.
+     */
+    private int solvedCalls = 0;
+
+    /**
+     * Value of {@link #solvedCalls} at the last flush.
+     */
+    private int flushedSolvedCalls = 0;
+
+    /**
+     * Counts a successful swap.
+     */
+    public void recordSwap() {
+        if (GameMetrics.isEnabled() && ++swaps == FLUSH_INTERVAL) {
+            flush();
+        }
+    }
+
+    /**
+     * Counts a successful rotation.
+     */
+    public void recordRotation() {
+        if (GameMetrics.isEnabled() && ++rotations == FLUSH_INTERVAL) {
+            flush();
+        }
+    }
+
+    /**
+     * Counts a call to isSolved() and indicates if it has to be timed.
+     *
+     * @return True if the caller has to time this call and pass the latency to {@link #recordSolved(int, long)}.
+     */
+    public boolean sampleSolved() {
+        if (!GameMetrics.isEnabled() || (++solvedCalls & (SAMPLE_INTERVAL - 1)) != 0) {
+            return false;
+        }
+        flush();
+        return true;
+    }
+
+    /**
+     * Records the latency of a sampled call to isSolved().
+     *
+     * @param size Size of the board.
+     * @param nanos Latency in nanoseconds.
+     */
+    public void recordSolved(int size, long nanos) {
+        GameMetrics.recordSolved(size, nanos);
+    }
+
+    /**
+     * Adds the events counted locally to the shared counters.
+     */
+    public void flush() {
+        if (swaps != 0) {
+            GameMetrics.SWAPS.add(swaps);
+            swaps = 0;
+        }
+        if (rotations != 0) {
+            GameMetrics.ROTATIONS.add(rotations);
+            rotations = 0;
+        }
+        if (solvedCalls != flushedSolvedCalls) {
+            GameMetrics.SOLVED_CHECKS.add(solvedCalls - flushedSolvedCalls);
+            flushedSolvedCalls = solvedCalls;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.game.model.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event of a move (a swap or a rotation) on a level, whether it succeeds or not.
+ *
+ * @version 1.0
+ */
+@Name("com.game.Move")
+@Label("Move")
+@Description("Two cells of a level are swapped or a cell is rotated")
+public class MoveEvent extends LevelEvent {
+
+    public static final String SWAP = "swap";
+
+    public static final String ROTATE = "rotate";
+
+    @Label("Move")
+    private final String move;
+
+    @Label("First Position")
+    @Description("Position (row * size + column) of the first cell")
+    private final int first;
+
+    @Label("Second Position")
+    @Description("Position (row * size + column) of the second cell, the same as the first one for a rotation")
+    private final int second;
+
+    /**
+     * Constructor
+     *
+     * @param move {@link #SWAP} or {@link #ROTATE}.
+     * @param first Position of the first cell.
+     * @param second Position of the second cell.
+     */
+    public MoveEvent(String move, int first, int second) {
+        this.move = move;
+        this.first = first;
+        this.second = second;
+    }
+}
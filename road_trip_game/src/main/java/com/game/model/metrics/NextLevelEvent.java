@@ -0,0 +1,21 @@
+package com.game.model.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event of advancing a game to its next level.
+ *
+ * @version 1.0
+ */
+@Name("com.game.NextLevel")
+@Label("Next Level")
+@Description("A game advances to its next level, or finishes when there are no more levels")
+public class NextLevelEvent extends LevelEvent {
+
+    /**
+     * Outcome when the game has no more levels.
+     */
+    public static final String OUTCOME_FINISHED = "finished";
+}
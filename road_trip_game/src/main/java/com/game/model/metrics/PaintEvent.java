@@ -0,0 +1,16 @@
+package com.game.model.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event of painting the board of a level in the graphical view.
+ *
+ * @version 1.0
+ */
+@Name("com.game.Paint")
+@Label("Paint")
+@Description("The board of a level is painted in the graphical view")
+public class PaintEvent extends LevelEvent {
+}
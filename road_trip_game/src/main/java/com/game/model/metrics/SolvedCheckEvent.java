@@ -0,0 +1,20 @@
+package com.game.model.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event of checking if a level is solved.
+ *
+ * @version 1.0
+ */
+@Name("com.game.SolvedCheck")
+@Label("Solved Check")
+@Description("A level is checked to know if it is solved")
+public class SolvedCheckEvent extends LevelEvent {
+
+    public static final String OUTCOME_SOLVED = "solved";
+
+    public static final String OUTCOME_UNSOLVED = "unsolved";
+}
@@ -1,31 +1,47 @@
 package com.game.model.utils;
 
-import java.util.Objects;
-
+/**
+ * Row and column of a position of a board.<br/>
+ * The game works with positions packed in an int (row * size + column, see {@link #toIndex(int)}) on its hot paths,
+ * so this class is a thin immutable wrapper for the public API and the views.
+ */
 public class Coordinate {
 
-    private int row;
-    private int column;
+    private final int row;
+    private final int column;
 
     public Coordinate(int row, int column) {
-        setRow(row);
-        setColumn(column);
+        this.row = row;
+        this.column = column;
     }
 
-    public int getRow() {
-        return row;
+    /**
+     * Returns the coordinate of a position of a board.
+     *
+     * @param index Position of the board, i.e. row * size + column.
+     * @param size Size of the board.
+     * @return Coordinate of the position.
+     */
+    public static Coordinate fromIndex(int index, int size) {
+        return new Coordinate(index / size, index % size);
     }
 
-    private void setRow(int row) {
-        this.row = row;
+    public int getRow() {
+        return row;
     }
 
     public int getColumn() {
         return column;
     }
 
-    private void setColumn(int column) {
-        this.column = column;
+    /**
+     * Returns the position of this coordinate in a board. The coordinate must be inside the board.
+     *
+     * @param size Size of the board.
+     * @return Position of the board, i.e. row * size + column.
+     */
+    public int toIndex(int size) {
+        return row * size + column;
     }
 
     @Override
@@ -34,9 +50,13 @@ public class Coordinate {
                 && (((Coordinate) obj).getRow() == row);
     }
 
+    /**
+     * Returns a hash code without boxing. It is unique for the coordinates of boards of up to 65536 columns,
+     * and keeps the row in the low bits too, so that the coordinates of a board spread over small hash tables.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(row, column);
+        return row * 65537 + column;
     }
 
     @Override
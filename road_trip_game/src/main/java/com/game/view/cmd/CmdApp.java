@@ -2,10 +2,14 @@ package com.game.view.cmd;
 
 import com.game.controller.Game;
 import com.game.model.cells.RotatableCell;
+import com.game.model.levels.DirectoryLevelSource;
 import com.game.model.levels.LevelException;
-import com.game.model.utils.Coordinate;
+import com.game.model.levels.LevelPack;
+import com.game.model.metrics.GameMetrics;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 /**
@@ -31,6 +35,18 @@ public class CmdApp {
         this.game = new Game("levels/");
     }
 
+    /**
+     * Initializes a new game with the levels of the file system, i.e. a folder of level files
+     * or a level pack, instead of the levels included in the game.
+     *
+     * @param levels Path of a folder of level files ("levelN.txt") or of a level pack.
+     * @throws IOException When there is a problem while loading the game.
+     */
+    public CmdApp(String levels) throws IOException {
+        Path path = Path.of(levels);
+        this.game = new Game(Files.isDirectory(path) ? new DirectoryLevelSource(path) : LevelPack.open(path));
+    }
+
     /**
      * Manages the idle process of the game.
      *
@@ -38,8 +54,8 @@ public class CmdApp {
      */
     public void launchGame() throws LevelException {
         Scanner sc = new Scanner(System.in);
-        Coordinate coordinateStarting;
-        Coordinate coordinateEnding;
+        int indexStarting;
+        int indexEnding;
 
         while(game.nextLevel()) {
             System.out.println("LEVEL "+game.getCurrentLevel()+ " - "+ game.getDifficulty());
@@ -47,17 +63,28 @@ public class CmdApp {
             while (!game.isLevelSolved()) {
                 System.out.println("Moves done: "+game.getNumMoves());
                 System.out.println(game.getBoardText());
-                System.out.println("Enter starting cell (row,col), e.g. a3: ");
+                System.out.println("Enter starting cell (row,col), e.g. a3, or \"u\" to undo and \"r\" to redo: ");
                 try{
-                    coordinateStarting = coordinateFromInput(sc.nextLine());
+                    String input = sc.nextLine();
+                    if(input.equalsIgnoreCase("u")){
+                        if(!game.undo()) System.out.println("There is no move to undo.");
+                        System.out.println();
+                        continue;
+                    }
+                    if(input.equalsIgnoreCase("r")){
+                        if(!game.redo()) System.out.println("There is no move to redo.");
+                        System.out.println();
+                        continue;
+                    }
+                    indexStarting = indexFromInput(input);
 
                     //If it is a rotatable cell, then we don't ask for a second coordinate/cell
-                    if(game.getCell(coordinateStarting) instanceof RotatableCell){
-                        game.rotate(coordinateStarting);
+                    if(game.getCell(indexStarting) instanceof RotatableCell){
+                        game.rotate(indexStarting);
                     }else{
                         System.out.println("Enter destination cell (row,col): ");
-                        coordinateEnding = coordinateFromInput(sc.nextLine());
-                        game.swap(coordinateStarting, coordinateEnding);
+                        indexEnding = indexFromInput(sc.nextLine());
+                        game.swap(indexStarting, indexEnding);
                     }
                 }catch(LevelException e){
                     System.err.println(e.getMessage());
@@ -76,18 +103,18 @@ public class CmdApp {
     }
 
     /**
-     * Transform a user input (String) in the corresponding Coordinate object.
+     * Transform a user input (String) in the corresponding position of the board (row * size + column).
      *
      * @param input User input (captured from the keyboard) with the format rowColumn, e.g. "a1".
-     * @return Coordinate object that corresponds to the user input.
+     * @return Position of the board that corresponds to the user input.
      * @throws LevelException When the input format or the coordinate is incorrect.
      */
-    private Coordinate coordinateFromInput(String input) throws LevelException{
-        char x = input.toLowerCase().charAt(1);
-        char y = input.toLowerCase().charAt(0);
-
+    private int indexFromInput(String input) throws LevelException{
         if(input.length()!=2) throw new LevelException(LevelException.ERROR_COORDINATE);
 
+        char x = Character.toLowerCase(input.charAt(1));
+        char y = Character.toLowerCase(input.charAt(0));
+
         if(!Character.isLetter(y) //no letter
                 || !(y >= 'a' && y < 97 +  game.getBoardSize()))
             throw new LevelException(LevelException.ERROR_COORDINATE);
@@ -96,18 +123,19 @@ public class CmdApp {
             || !(x >= 49 && x < 49 +  game.getBoardSize())
         ) throw new LevelException(LevelException.ERROR_COORDINATE);
 
-        return new Coordinate(((int)y - 97), ((int)x-49));
+        return game.toIndex(((int)y - 97), ((int)x-49));
     }
 
     /**
      * Main method: entry point of the program when Gradle's "runCmdVersion" is used.
      *
-     * @param args This parameter is not needed.
+     * @param args Optionally, the path of a folder of level files or of a level pack.
      */
     public static void main(String[] args) {
         System.out.println("Starting...");
+        GameMetrics.registerMBean();
         try {
-            CmdApp cmd = new CmdApp();
+            CmdApp cmd = args.length > 0 ? new CmdApp(args[0]) : new CmdApp();
             cmd.launchGame();
         } catch (IOException | LevelException e) {
             e.printStackTrace();
@@ -0,0 +1,39 @@
+package com.game.view.gui;
+
+import com.game.controller.Game;
+import com.game.model.levels.LevelException;
+
+/**
+ * Renderer of the board of the Play view. It draws the cells of the current level of a game in the pane of the board
+ * and reports the clicks on its cells by their position (row * size + column).
+ *
+ * @version 1.0
+ */
+interface BoardRenderer {
+
+    /**
+     * Paints the whole board. It is called when a level is loaded or reloaded, and the size of the board
+     * may have changed since the last call.
+     *
+     * @param game Game whose current level is painted.
+     * @throws LevelException When the position of a cell is invalid.
+     */
+    void paint(Game game) throws LevelException;
+
+    /**
+     * Paints again the cell of a position after a move, which also removes its highlight.
+     *
+     * @param game Game whose current level is painted.
+     * @param index Position (row * size + column) of the cell.
+     * @throws LevelException When the position of the cell is invalid.
+     */
+    void paintCell(Game game, int index) throws LevelException;
+
+    /**
+     * Highlights the cell of a position as clicked, or removes its highlight.
+     *
+     * @param index Position (row * size + column) of the cell.
+     * @param highlighted True to highlight the cell.
+     */
+    void setHighlighted(int index, boolean highlighted);
+}
@@ -0,0 +1,162 @@
+package com.game.view.gui;
+
+import com.game.controller.Game;
+import com.game.model.cells.CellType;
+import com.game.model.levels.LevelException;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Renderer that draws the whole board in a single Canvas, from a {@link SpriteAtlas}, so the scene graph has one node
+ * whatever the size of the board. Cells are scaled down so that the board fits in the view.
+ * <br/><br/>
+ * The board is only drawn entirely when a level is loaded or reloaded. After a move, only the rectangles of the cells
+ * that have changed are cleared and drawn again, and clicks are converted into positions arithmetically.
+ *
+ * @version 1.0
+ */
+final class CanvasBoardRenderer implements BoardRenderer {
+
+    /**
+     * Maximum width of the border of a highlighted cell.
+     */
+    private static final double HIGHLIGHT_WIDTH = 2;
+
+    private final Pane board;
+
+    /**
+     * Maximum size (in pixels) of each cell.
+     */
+    private final int maxCellSize;
+
+    /**
+     * Maximum width and height (in pixels) of the board.
+     */
+    private final int maxBoardSize;
+
+    private final Canvas canvas = new Canvas();
+
+    private SpriteAtlas atlas;
+
+    /**
+     * Size of the board that is drawn.
+     */
+    private int size = 0;
+
+    /**
+     * Size (in pixels) of each cell that is drawn.
+     */
+    private int cellSize = 0;
+
+    /**
+     * Type of the cell drawn in each position (row * size + column), so that a cell can be drawn again without
+     * asking the game.
+     */
+    private CellType[] types;
+
+    /**
+     * Constructor
+     *
+     * @param board Pane in which the board is displayed.
+     * @param maxCellSize Maximum size (in pixels) of each cell.
+     * @param maxBoardSize Maximum width and height (in pixels) of the board.
+     * @param onClick Action called with the position of a cell when it is clicked.
+     */
+    CanvasBoardRenderer(Pane board, int maxCellSize, int maxBoardSize, IntConsumer onClick) {
+        this.board = board;
+        this.maxCellSize = maxCellSize;
+        this.maxBoardSize = maxBoardSize;
+        canvas.setOnMouseClicked(e -> {
+            int index = hitTest(e.getX(), e.getY());
+            if (index >= 0) {
+                onClick.accept(index);
+            }
+        });
+    }
+
+    @Override
+    public void paint(Game game) throws LevelException {
+        int boardSize = game.getBoardSize();
+        if (types == null || size != boardSize) {
+            size = boardSize;
+            cellSize = Math.max(1, Math.min(maxCellSize, maxBoardSize / size));
+            if (atlas == null || atlas.getTileSize() != cellSize) {
+                atlas = new SpriteAtlas(cellSize);
+            }
+            types = new CellType[size * size];
+            canvas.setWidth(cellSize * size);
+            canvas.setHeight(cellSize * size);
+            board.getChildren().setAll(canvas);
+        }
+
+        //Clearing the whole canvas also discards the drawing commands that have not been rendered yet
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int index = 0; index < types.length; index++) {
+            types[index] = game.getCell(index).getType();
+            drawCell(graphics, index);
+        }
+    }
+
+    @Override
+    public void paintCell(Game game, int index) throws LevelException {
+        types[index] = game.getCell(index).getType();
+        redrawCell(index);
+    }
+
+    @Override
+    public void setHighlighted(int index, boolean highlighted) {
+        if (!highlighted) {
+            redrawCell(index);
+            return;
+        }
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        double width = Math.max(1, Math.min(HIGHLIGHT_WIDTH, cellSize / 8.0));
+        graphics.setStroke(Color.WHITE);
+        graphics.setLineWidth(width);
+        graphics.strokeRect(getX(index) + width / 2, getY(index) + width / 2, cellSize - width, cellSize - width);
+    }
+
+    /**
+     * Returns the position of the cell that contains a point of the canvas.
+     *
+     * @param x Horizontal coordinate (in pixels) of the point.
+     * @param y Vertical coordinate (in pixels) of the point.
+     * @return Position (row * size + column) of the cell, or -1 if the point is out of the board.
+     */
+    private int hitTest(double x, double y) {
+        if (x < 0 || y < 0 || cellSize == 0) {
+            return -1;
+        }
+        int column = (int) (x / cellSize);
+        int row = (int) (y / cellSize);
+        return row < size && column < size ? row * size + column : -1;
+    }
+
+    /**
+     * Clears the rectangle of a cell and draws it again.
+     */
+    private void redrawCell(int index) {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        graphics.clearRect(getX(index), getY(index), cellSize, cellSize);
+        drawCell(graphics, index);
+    }
+
+    private void drawCell(GraphicsContext graphics, int index) {
+        CellType type = types[index];
+        graphics.drawImage(atlas.getImage(), atlas.getX(type), atlas.getY(type), cellSize, cellSize,
+                getX(index), getY(index), cellSize, cellSize);
+    }
+
+    private int getX(int index) {
+        return (index % size) * cellSize;
+    }
+
+    private int getY(int index) {
+        return (index / size) * cellSize;
+    }
+}
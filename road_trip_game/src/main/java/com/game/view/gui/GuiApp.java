@@ -1,5 +1,7 @@
 package com.game.view.gui;
 
+import com.game.model.metrics.GameMetrics;
+
 import java.io.IOException;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -44,6 +46,7 @@ public class GuiApp extends Application {
      * @param args This parameter is not needed.
      */
     public static void main(String[] args) {
+        GameMetrics.registerMBean();
         launch(args);
     }
 
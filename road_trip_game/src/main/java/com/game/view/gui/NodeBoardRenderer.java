@@ -0,0 +1,113 @@
+package com.game.view.gui;
+
+import com.game.controller.Game;
+import com.game.model.cells.Cell;
+import com.game.model.cells.MovableCell;
+import com.game.model.levels.LevelException;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Renderer that displays each cell of the board in its own node (a StackPane with an ImageView), styled with CSS.
+ * The nodes are created when the size of the board changes and kept while it does not, so a move only changes
+ * the images of the nodes of its cells. The scene graph grows with the number of cells, so it is meant for boards
+ * that fit in the view at full size.
+ *
+ * @version 1.0
+ */
+final class NodeBoardRenderer implements BoardRenderer {
+
+    private final Pane board;
+
+    private final SpriteCache sprites;
+
+    /**
+     * Size (in pixels) of each cell.
+     */
+    private final int cellSize;
+
+    private final IntConsumer onClick;
+
+    /**
+     * Nodes of the board, by position (row * size + column).
+     */
+    private StackPane[] nodes;
+
+    /**
+     * Size of the board whose nodes are in the attribute "nodes".
+     */
+    private int size = 0;
+
+    /**
+     * Constructor
+     *
+     * @param board Pane in which the board is displayed.
+     * @param sprites Images of the cells, scaled to the size of a cell.
+     * @param cellSize Size (in pixels) of each cell.
+     * @param onClick Action called with the position of a cell when it is clicked.
+     */
+    NodeBoardRenderer(Pane board, SpriteCache sprites, int cellSize, IntConsumer onClick) {
+        this.board = board;
+        this.sprites = sprites;
+        this.cellSize = cellSize;
+        this.onClick = onClick;
+    }
+
+    @Override
+    public void paint(Game game) throws LevelException {
+        int boardSize = game.getBoardSize();
+        if (nodes == null || size != boardSize) {
+            size = boardSize;
+            nodes = new StackPane[size * size];
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    nodes[i * size + j] = createNode(i, j);
+                }
+            }
+            board.getChildren().setAll(nodes);
+        }
+
+        for (int index = 0; index < nodes.length; index++) {
+            paintCell(game, index);
+        }
+    }
+
+    /**
+     * Creates the node of a position of the board. Its image is set by {@link #paintCell(Game, int)}.
+     *
+     * @param row Row of the cell.
+     * @param column Column of the cell.
+     * @return Node placed in the position of the cell.
+     */
+    private StackPane createNode(int row, int column) {
+        int index = row * size + column;
+        StackPane node = new StackPane(new ImageView());
+        node.setTranslateX(cellSize * column);
+        node.setTranslateY(cellSize * row);
+        node.setOnMouseClicked(e -> onClick.accept(index));
+        return node;
+    }
+
+    /**
+     * Sets the cached image of the type of the cell and its style (which also removes the "clicked" style).
+     */
+    @Override
+    public void paintCell(Game game, int index) throws LevelException {
+        Cell cell = game.getCell(index);
+        StackPane node = nodes[index];
+        ((ImageView) node.getChildren().get(0)).setImage(sprites.get(cell.getType()));
+        node.getStyleClass().setAll(cell instanceof MovableCell ? "piece-movable" : "piece-movable-destination");
+    }
+
+    @Override
+    public void setHighlighted(int index, boolean highlighted) {
+        if (highlighted) {
+            nodes[index].getStyleClass().add("clicked");
+        } else {
+            nodes[index].getStyleClass().removeAll("clicked");
+        }
+    }
+}
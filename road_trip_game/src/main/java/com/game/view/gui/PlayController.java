@@ -4,26 +4,22 @@ import com.game.model.cells.Cell;
 import com.game.controller.Game;
 import com.game.model.cells.MovableCell;
 import com.game.model.cells.RotatableCell;
+import com.game.model.levels.DirectoryLevelSource;
 import com.game.model.levels.LevelException;
-import com.game.model.utils.Coordinate;
+import com.game.model.levels.LevelPack;
+import com.game.model.metrics.LevelEvent;
+import com.game.model.metrics.PaintEvent;
 import com.game.model.cells.*;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Label;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.Node;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
-import javafx.scene.layout.StackPane;
 
 /**
  * Class that controls the interaction in the Play view.
@@ -39,15 +35,49 @@ public class PlayController {
     private Game game;
 
     /**
-     * It allows us to know when the player has clicked two cells.
+     * Position (row * size + column) of the movable cell that the player has clicked first in order to swap it,
+     * or NO_SELECTION. It allows us to know when the player has clicked two cells.
      */
-    private List<Coordinate> move;
+    private int selected = NO_SELECTION;
+
+    /**
+     * Value of the attribute "selected" when no cell is selected.
+     */
+    private static final int NO_SELECTION = -1;
 
     /**
      * Size of each cell in the board.
      */
     private static final int CELL_SIZE = 126;
 
+    /**
+     * Width and height (in pixels) of the area of the board.
+     */
+    private static final int BOARD_SIZE = 630;
+
+    /**
+     * System property that selects the renderer of the board: "nodes" ({@link NodeBoardRenderer}), "canvas"
+     * ({@link CanvasBoardRenderer}) or, by default, the nodes for the boards that fit in the view with cells of
+     * CELL_SIZE and the canvas for larger boards.
+     */
+    private static final String RENDERER_PROPERTY = "game.renderer";
+
+    /**
+     * System property with the path of a folder of level files or of a level pack (e.g. of generated levels)
+     * to play instead of the levels included in the game.
+     */
+    private static final String LEVELS_PROPERTY = "game.levels";
+
+    /**
+     * Images of the cells, scaled to CELL_SIZE. They are decoded once and shared by all the nodes of the board.
+     */
+    private static final SpriteCache SPRITES = new SpriteCache(CELL_SIZE);
+
+    /**
+     * Renderer of the board of the current level.
+     */
+    private BoardRenderer renderer;
+
     /**
      * It connects to the UI item that displays the board.
      */
@@ -87,25 +117,32 @@ public class PlayController {
      */
     @FXML
     private void initialize() throws IOException, LevelException {
-        move = new ArrayList<>();
-        game = new Game("levels/");
+        String levels = System.getProperty(LEVELS_PROPERTY);
+        if (levels == null) {
+            game = new Game("levels/");
+        } else {
+            Path path = Path.of(levels);
+            game = new Game(Files.isDirectory(path) ? new DirectoryLevelSource(path) : LevelPack.open(path));
+        }
+        game.setPrefetch(true);
         alert = new Alert(AlertType.INFORMATION);
         alert.setHeaderText("Congratulations!");
-        if(game.nextLevel()) update();
+        if(game.nextLevel()) {
+            paint();
+            update();
+        }
     }
 
     /**
-     * Updates the status of the level (i.e. the flow of the game). It also paints the game in the GUI.
+     * Updates the status of the level (i.e. the flow of the game) after the cells that have changed have been painted.
+     * It also paints the next level when the current one is solved.
      *
      * @throws LevelException When there is a level exception/problem.
      */
     private void update() throws LevelException {
-        if(!game.isLevelSolved()) {
-            paint();
-        }else {
+        uiMoves.setText(String.valueOf(game.getNumMoves()));
+        if(game.isLevelSolved()) {
             //Level solved, then we show an alert (popup) window.
-            paint();
-            uiMoves.setText(String.valueOf(game.getNumMoves()));
             alert.setContentText("You have solved Level "+game.getCurrentLevel()+"!!");
             alert.showAndWait();
             if(!game.nextLevel()) {
@@ -132,13 +169,13 @@ public class PlayController {
     }
 
     /**
-     * Paints the level in the GUI.
+     * Paints the whole level in the GUI, with the renderer that suits the size of its board.
      *
      * @throws LevelException When the coordinate of a cell is invalid.
      */
     private void paint() throws LevelException{
-        ObservableList<Node> nodeList = FXCollections.observableArrayList();
-        canvas.getChildren().clear();
+        PaintEvent event = new PaintEvent();
+        event.begin();
 
         uiDifficulty.setText(game.getDifficulty().toString());
 
@@ -146,79 +183,85 @@ public class PlayController {
 
         uiMoves.setText(String.valueOf(game.getNumMoves()));
 
-        for (int i = 0; i < game.getBoardSize(); i++) {
-            for (int j = 0; j < game.getBoardSize(); j++){
-                Cell cell = game.getCell(i,j);
-                StackPane sprite = new StackPane();
-
-                ImageView spriteImage = new ImageView(new Image("/images/"+ cell.getType().getImageSrc()));
-
-                spriteImage.setFitWidth(CELL_SIZE);
-                spriteImage.setFitHeight(CELL_SIZE);
-                sprite.getChildren().add(spriteImage);
-                sprite.setTranslateX(CELL_SIZE * cell.getCoordinate().getColumn());
-                sprite.setTranslateY(CELL_SIZE * cell.getCoordinate().getRow());
-
-                if (cell instanceof MovableCell) {
-                    sprite.getStyleClass().add("piece-movable");
-                }
-
-                if (!(cell instanceof MovableCell)){
-                    sprite.getStyleClass().add("piece-movable-destination");
-                }
-
-                nodeList.addAll(sprite);
-
-                sprite.setOnMouseClicked(e -> onClick(cell.getCoordinate()));
-            }
+        selected = NO_SELECTION;
+        boolean useCanvas = isCanvasRenderer(game.getBoardSize());
+        if (renderer == null || (renderer instanceof CanvasBoardRenderer) != useCanvas) {
+            renderer = useCanvas
+                    ? new CanvasBoardRenderer(canvas, CELL_SIZE, BOARD_SIZE, this::onClick)
+                    : new NodeBoardRenderer(canvas, SPRITES, CELL_SIZE, this::onClick);
         }
+        renderer.paint(game);
 
-        canvas.getChildren().addAll(nodeList);
+        event.setLevel(game.getCurrentLevel());
+        event.record(game.getBoardSize(), game.getDifficulty(), game.getNumMoves(), LevelEvent.OUTCOME_OK);
+    }
 
+    /**
+     * Indicates if the board has to be rendered in a Canvas.
+     *
+     * @param size Size of the board.
+     * @return True for {@link CanvasBoardRenderer}, false for {@link NodeBoardRenderer}.
+     */
+    private static boolean isCanvasRenderer(int size) {
+        switch (System.getProperty(RENDERER_PROPERTY, "")) {
+            case "canvas":
+                return true;
+            case "nodes":
+                return false;
+            default:
+                return size * CELL_SIZE > BOARD_SIZE;
+        }
     }
 
     /**
-     * Manages the click event, when a coordinate is clicked.
+     * Manages the click event, when a cell is clicked.
      * <br/><br/>
-     * If the first coordinate that has been clicked contains a rotatable piece,
+     * If no cell was selected and the clicked cell is rotatable,
      * then it updates the status of the level by rotating the piece.
      * <br/><br/>
-     * When 2 coordinates has been clicked and the pieces in both coordinates
-     * are movable, then it updates the status of the level by swapping the pieces in the given coordinates.
+     * When 2 cells have been clicked and the pieces in both cells are movable,
+     * then it updates the status of the level by swapping the pieces in the given cells.
      *
-     * @param coord Coordinate object that corresponds to the cell of the board
-     *              that has been clicked.
+     * @param index Position (row * size + column) of the cell of the board that has been clicked.
      */
-    private void onClick(Coordinate coord){
-        Optional<Node> nodeOptional = canvas.getChildren().stream()
-                .filter(n -> n.getTranslateX()/CELL_SIZE==coord.getColumn() && n.getTranslateY()/CELL_SIZE == coord.getRow())
-                .findFirst();
-
-        if(nodeOptional.isPresent()){
-            Node node = nodeOptional.get();
-            node.getStyleClass().add("clicked");
-
-            try {
-                if(move.isEmpty() && game.getCell(coord) instanceof RotatableCell){
-                    game.rotate(coord);
-                    update();
-                }else if(game.getCell(coord) instanceof MovableCell
-                        && !move.contains(coord)){
-                    move.add(coord);
-
-                    if(move.size()==2) {
-                        game.swap(move.get(0),move.get(1));
-                        update();
-                        move.clear();
-                    }
+    private void onClick(int index){
+        renderer.setHighlighted(index, true);
+
+        try {
+            Cell cell = game.getCell(index);
+            if(selected == NO_SELECTION && cell instanceof RotatableCell){
+                game.rotate(index);
+                renderer.paintCell(game, index);
+                update();
+            }else if(cell instanceof MovableCell && selected != index){
+                if(selected == NO_SELECTION) {
+                    selected = index;
                 }else{
-                    move.clear();
-                    node.getStyleClass().removeAll("clicked");
+                    int first = selected;
+                    selected = NO_SELECTION;
+                    game.swap(first, index);
+                    renderer.paintCell(game, first);
+                    renderer.paintCell(game, index);
+                    update();
                 }
-            } catch (LevelException e){
-                move.clear();
-                node.getStyleClass().removeAll("clicked");
+            }else{
+                clearSelection(index);
             }
+        } catch (LevelException e){
+            clearSelection(index);
+        }
+    }
+
+    /**
+     * Discards the selected cell (if any) and removes the highlight from it and from the given cell.
+     *
+     * @param index Position of the cell that has been clicked.
+     */
+    private void clearSelection(int index) {
+        if (selected != NO_SELECTION) {
+            renderer.setHighlighted(selected, false);
+            selected = NO_SELECTION;
         }
+        renderer.setHighlighted(index, false);
     }
 }
@@ -0,0 +1,100 @@
+package com.game.view.gui;
+
+import com.game.model.cells.CellType;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sprite atlas: a single image in which the images of all the types of cells (the files of the folder "images",
+ * scaled to the size of a tile) are packed in a grid of tiles. Types that share an image file share its tile.
+ * Drawing from one image lets a Canvas draw any cell without switching textures or scaling.
+ *
+ * @version 1.0
+ */
+final class SpriteAtlas {
+
+    /**
+     * Width and height (in pixels) of each tile.
+     */
+    private final int tileSize;
+
+    private final WritableImage image;
+
+    /**
+     * Position (in pixels) in the atlas of the tile of each type of cell, by ordinal.
+     */
+    private final int[] tileX;
+
+    private final int[] tileY;
+
+    /**
+     * Constructor. It decodes the images of the cells and copies them into the atlas.
+     *
+     * @param tileSize Width and height (in pixels) of each tile, i.e. the size of a cell on the screen.
+     */
+    SpriteAtlas(int tileSize) {
+        this.tileSize = tileSize;
+        CellType[] types = CellType.values();
+        Map<String, Integer> tiles = new HashMap<>();
+        for (CellType type : types) {
+            tiles.putIfAbsent(type.getImageSrc(), tiles.size());
+        }
+        int columns = (int) Math.ceil(Math.sqrt(tiles.size()));
+        int rows = (tiles.size() + columns - 1) / columns;
+        image = new WritableImage(columns * tileSize, rows * tileSize);
+
+        PixelWriter writer = image.getPixelWriter();
+        SpriteCache sprites = new SpriteCache(tileSize);
+        boolean[] copied = new boolean[tiles.size()];
+        tileX = new int[types.length];
+        tileY = new int[types.length];
+        for (CellType type : types) {
+            int tile = tiles.get(type.getImageSrc());
+            tileX[type.ordinal()] = (tile % columns) * tileSize;
+            tileY[type.ordinal()] = (tile / columns) * tileSize;
+            if (!copied[tile]) {
+                copied[tile] = true;
+                Image sprite = sprites.get(type);
+                PixelReader reader = sprite.getPixelReader();
+                if (reader != null) {
+                    int width = Math.min(tileSize, (int) sprite.getWidth());
+                    int height = Math.min(tileSize, (int) sprite.getHeight());
+                    writer.setPixels(tileX[type.ordinal()], tileY[type.ordinal()], width, height, reader, 0, 0);
+                }
+            }
+        }
+    }
+
+    int getTileSize() {
+        return tileSize;
+    }
+
+    Image getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the horizontal position of the tile of a type of cell.
+     *
+     * @param type Type of the cell.
+     * @return Position (in pixels) of the left side of the tile in the atlas.
+     */
+    int getX(CellType type) {
+        return tileX[type.ordinal()];
+    }
+
+    /**
+     * Returns the vertical position of the tile of a type of cell.
+     *
+     * @param type Type of the cell.
+     * @return Position (in pixels) of the top side of the tile in the atlas.
+     */
+    int getY(CellType type) {
+        return tileY[type.ordinal()];
+    }
+}
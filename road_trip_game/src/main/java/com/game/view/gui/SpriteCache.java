@@ -0,0 +1,42 @@
+package com.game.view.gui;
+
+import com.game.model.cells.CellType;
+import javafx.scene.image.Image;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Cache of the images of the cells. The image of each type of cell is decoded and scaled to the size of a cell
+ * only the first time it is requested, and then shared by all the nodes that display that type.
+ *
+ * @version 1.0
+ */
+final class SpriteCache {
+
+    /**
+     * Width and height (in pixels) of the images.
+     */
+    private final double size;
+
+    private final Map<CellType, Image> images = new EnumMap<>(CellType.class);
+
+    /**
+     * Constructor
+     *
+     * @param size Width and height (in pixels) to which the images are scaled.
+     */
+    SpriteCache(double size) {
+        this.size = size;
+    }
+
+    /**
+     * Returns the image of a type of cell.
+     *
+     * @param type Type of the cell.
+     * @return Decoded image, scaled to the size of the cache.
+     */
+    Image get(CellType type) {
+        return images.computeIfAbsent(type, t -> new Image("/images/" + t.getImageSrc(), size, size, false, true));
+    }
+}
@@ -0,0 +1,212 @@
+package com.game.view.server;
+
+import com.game.controller.Game;
+import com.game.model.levels.LevelException;
+import com.game.model.levels.LevelSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Session of a player of a {@link SessionHost}: the command loop of one connection and its game.<br/>
+ * Lines are read with a small buffer of bytes instead of a Reader (whose decoder has a buffer of 8KB),
+ * so that an idle session only takes a few hundred bytes besides its game.
+ *
+ * @version 1.0
+ */
+final class Session implements Runnable {
+
+    /**
+     * Maximum length (in bytes) of a command.
+     */
+    private static final int MAXIMUM_LINE_LENGTH = 128;
+
+    private final SessionHost host;
+
+    private final Socket socket;
+
+    private final Game game;
+
+    /**
+     * True once a level has been started with "NEXT".
+     */
+    private boolean playing = false;
+
+    private InputStream input;
+
+    private OutputStream output;
+
+    private final byte[] buffer = new byte[MAXIMUM_LINE_LENGTH];
+
+    /**
+     * Position in "buffer" of the first byte that has not been processed yet.
+     */
+    private int position = 0;
+
+    /**
+     * Number of valid bytes of "buffer".
+     */
+    private int limit = 0;
+
+    /**
+     * Constructor
+     *
+     * @param host Host of the session.
+     * @param socket Connection of the player.
+     * @param source Source of the levels.
+     */
+    Session(SessionHost host, Socket socket, LevelSource source) {
+        this.host = host;
+        this.socket = socket;
+        this.game = new Game(source);
+    }
+
+    @Override
+    public void run() {
+        try (socket) {
+            input = socket.getInputStream();
+            output = socket.getOutputStream();
+            String line;
+            while ((line = readLine()) != null) {
+                if (line.equals("QUIT")) {
+                    write("OK BYE");
+                    break;
+                }
+                write(execute(line));
+            }
+        } catch (IOException e) {
+            //The connection has been closed or reset
+        } finally {
+            game.flushMetrics();
+            host.remove(this);
+        }
+    }
+
+    /**
+     * Closes the connection, which finishes the command loop.
+     */
+    void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            //It is being closed anyway
+        }
+    }
+
+    /**
+     * Executes a command.
+     *
+     * @param line Command and its arguments, separated by spaces.
+     * @return Response.
+     */
+    private String execute(String line) {
+        String[] words = line.trim().split(" +");
+        try {
+            switch (words[0]) {
+                case "NEXT":
+                    if (!game.nextLevel()) {
+                        playing = false;
+                        return "OK END";
+                    }
+                    playing = true;
+                    return "OK " + game.getCurrentLevel() + " " + game.getBoardSize() + " " + game.getDifficulty();
+                case "BOARD":
+                    checkPlaying();
+                    String[] rows = game.getBoardText().split(System.lineSeparator());
+                    return "OK " + rows.length + "\n" + String.join("\n", rows);
+                case "SWAP":
+                    checkPlaying();
+                    checkArguments(words, 4);
+                    game.swap(toIndex(words[1], words[2]), toIndex(words[3], words[4]));
+                    return status();
+                case "ROTATE":
+                    checkPlaying();
+                    checkArguments(words, 2);
+                    game.rotate(toIndex(words[1], words[2]));
+                    return status();
+                case "UNDO":
+                    checkPlaying();
+                    return game.undo() ? status() : "ERR There is no move to undo";
+                case "REDO":
+                    checkPlaying();
+                    return game.redo() ? status() : "ERR There is no move to redo";
+                case "RELOAD":
+                    checkPlaying();
+                    game.reload();
+                    return status();
+                default:
+                    return "ERR Unknown command";
+            }
+        } catch (LevelException | IllegalArgumentException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    private String status() throws LevelException {
+        return "OK " + game.getNumMoves() + " " + game.isLevelSolved();
+    }
+
+    private void checkPlaying() {
+        if (!playing) {
+            throw new IllegalArgumentException("There is no level in progress");
+        }
+    }
+
+    private static void checkArguments(String[] words, int numArguments) {
+        if (words.length != numArguments + 1) {
+            throw new IllegalArgumentException("Wrong number of arguments");
+        }
+    }
+
+    /**
+     * Returns the position in the board of the current level of a row and a column.
+     */
+    private int toIndex(String row, String column) throws LevelException {
+        try {
+            return game.toIndex(Integer.parseInt(row), Integer.parseInt(column));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(LevelException.ERROR_COORDINATE);
+        }
+    }
+
+    private void write(String response) throws IOException {
+        output.write((response + "\n").getBytes(StandardCharsets.UTF_8));
+        output.flush();
+    }
+
+    /**
+     * Reads the next line. A line ends with '\n' and an optional '\r' before it.
+     *
+     * @return Line without the line break, or {@code null} when the connection has been closed.
+     * @throws IOException When the connection fails or a line is longer than {@link #MAXIMUM_LINE_LENGTH} bytes.
+     */
+    private String readLine() throws IOException {
+        int scanned = position;
+        while (true) {
+            for (; scanned < limit; scanned++) {
+                if (buffer[scanned] == '\n') {
+                    int end = scanned > position && buffer[scanned - 1] == '\r' ? scanned - 1 : scanned;
+                    String line = new String(buffer, position, end - position, StandardCharsets.UTF_8);
+                    position = scanned + 1;
+                    return line;
+                }
+            }
+            //Move the incomplete line to the beginning of the buffer
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            scanned -= position;
+            position = 0;
+            if (limit == buffer.length) {
+                throw new IOException("Line too long");
+            }
+            int read = input.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                return null;
+            }
+            limit += read;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.game.view.server;
+
+import com.game.model.levels.DirectoryLevelSource;
+import com.game.model.levels.LevelPack;
+import com.game.model.levels.LevelSource;
+import com.game.model.levels.ResourceLevelSource;
+import com.game.model.metrics.GameMetrics;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless host of many independent game sessions, one per TCP connection of the loopback interface.<br/>
+ * Every session has its own {@link com.game.controller.Game}, and all of them share the templates of the levels,
+ * so each level is only parsed once. The command loop of each session runs in its own thread: a virtual thread when
+ * the Java runtime supports them (Java 21 or later), so idle sessions do not hold platform threads, or otherwise
+ * a platform thread with a small stack.
+ * <br/><br/>
+ * Protocol (UTF-8 text, one command per line, one response line per command, rows and columns start at 0):
+ * <ul>
+ *     <li>{@code NEXT}: starts the next level. Response: {@code OK <level> <size> <difficulty>} or {@code OK END}.</li>
+ *     <li>{@code SWAP <row> <column> <row> <column>}, {@code ROTATE <row> <column>}, {@code UNDO}, {@code REDO}
+ *     and {@code RELOAD}: Response: {@code OK <moves> <solved>}, where "solved" is "true" or "false".</li>
+ *     <li>{@code BOARD}: Response: {@code OK <n>} followed by the n lines of the board.</li>
+ *     <li>{@code QUIT}: Response: {@code OK BYE}, and the connection is closed.</li>
+ * </ul>
+ * Errors are answered with {@code ERR <message>}.
+ *
+ * @version 1.0
+ */
+public final class SessionHost implements AutoCloseable {
+
+    /**
+     * Stack size of the platform threads of the sessions when virtual threads are not available.
+     */
+    private static final long PLATFORM_STACK_SIZE = 256 * 1024;
+
+    /**
+     * Maximum number of pending connections.
+     */
+    private static final int BACKLOG = 4096;
+
+    private final LevelSource source;
+
+    private final ServerSocket serverSocket;
+
+    private final ThreadFactory threads;
+
+    private final boolean virtualThreads;
+
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+
+    private Thread acceptor;
+
+    /**
+     * Constructor. The host listens on the loopback interface, but does not accept connections until {@link #start()}.
+     *
+     * @param source Source of the levels of the sessions.
+     * @param port Port to listen on, or 0 for any free port.
+     * @throws IOException When the port cannot be opened.
+     */
+    public SessionHost(LevelSource source, int port) throws IOException {
+        this.source = LevelSource.cached(Objects.requireNonNull(source));
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+
+        ThreadFactory virtual = newVirtualThreadFactory();
+        this.virtualThreads = virtual != null;
+        this.threads = virtual != null ? virtual : newPlatformThreadFactory();
+    }
+
+    /**
+     * Returns the port the host listens on.
+     *
+     * @return Local port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Indicates if the sessions run in virtual threads.
+     *
+     * @return True if the sessions run in virtual threads, false if they run in platform threads.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Returns the number of open sessions.
+     *
+     * @return Number of sessions.
+     */
+    public int getNumSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Starts accepting connections in a background thread.
+     */
+    public synchronized void start() {
+        if (acceptor == null) {
+            acceptor = threads.newThread(this::acceptConnections);
+            acceptor.start();
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes all the sessions.
+     *
+     * @throws IOException When the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        //The acceptor ends when the server socket is closed. After it has ended, no session can be added
+        Thread acceptorThread;
+        synchronized (this) {
+            acceptorThread = acceptor;
+        }
+        if (acceptorThread != null && acceptorThread != Thread.currentThread()) {
+            try {
+                acceptorThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (Session session : sessions) {
+            session.close();
+        }
+    }
+
+    /**
+     * Removes a finished session.
+     *
+     * @param session Session whose connection has been closed.
+     */
+    void remove(Session session) {
+        sessions.remove(session);
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("ERROR: " + e.getMessage());
+                }
+                continue;
+            }
+            startSession(socket);
+        }
+    }
+
+    /**
+     * Starts the session of an accepted connection. If it cannot be started, the connection is closed.
+     */
+    private void startSession(Socket socket) {
+        Session session = null;
+        try {
+            socket.setTcpNoDelay(true);
+            session = new Session(this, socket, source);
+            sessions.add(session);
+            threads.newThread(session).start();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            if (session != null) {
+                sessions.remove(session);
+            }
+            try {
+                socket.close();
+            } catch (IOException closeException) {
+                //It is being closed anyway
+            }
+        }
+    }
+
+    /**
+     * Returns a factory of virtual threads, or {@code null} if the runtime does not support them.
+     * Reflection is used so that the game can still be built and run with Java 17.
+     */
+    private static ThreadFactory newVirtualThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "session-", 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            //Before Java 21 virtual threads do not exist or are a preview feature
+            return null;
+        }
+    }
+
+    private static ThreadFactory newPlatformThreadFactory() {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(null, runnable, "session-" + counter.incrementAndGet(), PLATFORM_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Main method: starts a host and waits until the process is killed.
+     *
+     * @param args Port (default 7777) and, optionally, the path of a folder of level files or of a level pack
+     *             (by default, the levels included in the game).
+     */
+    public static void main(String[] args) {
+        try {
+            int port = args.length > 0 ? Integer.parseInt(args[0]) : 7777;
+            LevelSource source;
+            if (args.length > 1) {
+                Path path = Path.of(args[1]);
+                source = Files.isDirectory(path) ? new DirectoryLevelSource(path) : LevelPack.open(path);
+            } else {
+                source = new ResourceLevelSource("levels/");
+            }
+
+            GameMetrics.registerMBean();
+            SessionHost host = new SessionHost(source, port);
+            host.start();
+            System.out.println("Listening on " + InetAddress.getLoopbackAddress().getHostAddress() + ":" + host.getPort()
+                    + (host.isVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+            host.acceptor.join();
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
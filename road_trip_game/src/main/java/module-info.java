@@ -4,6 +4,9 @@
 module edu.uoc.trip {
     requires javafx.fxml;
     requires transitive javafx.controls;
+    requires java.management;
+    requires jdk.jfr;
 
     exports com.game.view.gui to javafx.controls, javafx.fxml;
+    exports com.game.model.metrics to java.management, jdk.jfr;
 }
@@ -1,6 +1,12 @@
 package com.game.controller;
 
+import com.game.model.levels.Level;
 import com.game.model.levels.LevelException;
+import com.game.model.levels.LevelInfo;
+import com.game.model.levels.LevelSource;
+import com.game.model.levels.LevelTemplate;
+import com.game.model.levels.Replay;
+import com.game.model.levels.ReplayPlayer;
 import com.game.model.utils.Coordinate;
 import org.junit.jupiter.api.*;
 import org.junit.platform.commons.support.ModifierSupport;
@@ -9,6 +15,7 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
@@ -68,8 +75,8 @@ class GameTest {
     void checkMethodsSanity() {
         //Min 16 methods
         assertTrue(ownClass.getDeclaredMethods().length>=16);
-        //Max 12 public methods
-        assertEquals(12,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
+        //Max 25 public methods
+        assertEquals(25,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
         //Max 0 protected methods
         assertEquals(0,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isProtected(p.getModifiers())).count());
         //Max 0 package-private methods
@@ -84,12 +91,14 @@ class GameTest {
             assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("isFinished").getModifiers()));
             assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("loadLevel").getModifiers()));
 
-            //Max 1 constructor
-            assertEquals(1,ownClass.getDeclaredConstructors().length);
+            //Max 2 constructors: one for a folder of level files and one for any LevelSource
+            assertEquals(2,ownClass.getDeclaredConstructors().length);
 
-            //Constructor
+            //Constructors
             int modifiers = ownClass.getDeclaredConstructor(String.class).getModifiers();
             assertTrue(Modifier.isPublic(modifiers));
+            modifiers = ownClass.getDeclaredConstructor(LevelSource.class).getModifiers();
+            assertTrue(Modifier.isPublic(modifiers));
 
         } catch (NoSuchMethodException e) {
             fail("There is some problem with the definition of Game's methods/constructors. Please read the PRAC 2 - Statement:\n");
@@ -143,4 +152,185 @@ class GameTest {
             e.printStackTrace();
         }
     }
+
+    @Test
+    @Tag("controller")
+    @DisplayName("Controller - undo and redo")
+    void undoRedo() {
+        try {
+            assertTrue(game.nextLevel());
+            String initial = game.getBoardText();
+            assertFalse(game.undo());
+            game.swap(new Coordinate(1,0),new Coordinate(2,0));
+            String afterFirst = game.getBoardText();
+            game.swap(new Coordinate(2,1),new Coordinate(2,2));
+            assertEquals("1234"+System.lineSeparator()
+                    +"a|v·~·"+System.lineSeparator()
+                    +"b|╚╗═┃"+System.lineSeparator()
+                    +"c|╔╚·╗"+System.lineSeparator()
+                    +"d|·M·^", game.getBoardText().trim());
+            String afterSecond = game.getBoardText();
+
+            assertTrue(game.undo());
+            assertEquals(afterFirst, game.getBoardText());
+            assertEquals(1,game.getNumMoves());
+            assertTrue(game.undo());
+            assertEquals(initial, game.getBoardText());
+            assertEquals(0,game.getNumMoves());
+            assertFalse(game.undo());
+
+            assertTrue(game.redo());
+            assertTrue(game.redo());
+            assertEquals(afterSecond, game.getBoardText());
+            assertEquals(2,game.getNumMoves());
+            assertFalse(game.redo());
+
+            game.reload();
+            assertFalse(game.undo());
+            assertEquals(initial, game.getBoardText());
+        } catch (LevelException e) {
+            fail("undoRedo failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("controller")
+    @DisplayName("Controller - replay")
+    void replay() {
+        try {
+            //There is no level to replay yet
+            assertThrows(IllegalStateException.class, () -> game.getReplay());
+            assertTrue(game.nextLevel());
+            assertEquals(0, game.getReplay().getNumMoves());
+            game.swap(new Coordinate(1,0),new Coordinate(2,0));
+            game.swap(new Coordinate(2,1),new Coordinate(2,2));
+            assertTrue(game.undo());
+            assertTrue(game.redo());
+            assertFalse(game.redo());
+
+            Replay replay = game.getReplay();
+            assertEquals(1, replay.getLevelId());
+            assertEquals(4, replay.getNumMoves());
+            assertTrue(replay.hasTimestamps());
+            Level level = ReplayPlayer.play(replay, new LevelTemplate("levels/test/level1.txt"));
+            assertEquals(game.getBoardText(), level.toString());
+            assertEquals(game.getNumMoves(), level.getNumMoves());
+
+            game.reload();
+            assertEquals(0, game.getReplay().getNumMoves());
+        } catch (LevelException e) {
+            fail("replay failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("controller")
+    @DisplayName("Controller - index moves")
+    void indexMoves() {
+        try {
+            assertTrue(game.nextLevel());
+            Game expected = new Game("levels/test/");
+            assertTrue(expected.nextLevel());
+
+            assertEquals(4, game.toIndex(1,0));
+            assertSame(game.getCell(1,3), game.getCell(game.toIndex(1,3)));
+            LevelException ex = assertThrows(LevelException.class, () -> game.toIndex(1,4));
+            assertEquals(LevelException.ERROR_COORDINATE, ex.getMessage());
+
+            game.swap(game.toIndex(1,0), game.toIndex(2,0));
+            game.rotate(game.toIndex(1,3));
+            expected.swap(new Coordinate(1,0), new Coordinate(2,0));
+            expected.rotate(new Coordinate(1,3));
+            assertEquals(expected.getBoardText(), game.getBoardText());
+            assertEquals(2, game.getNumMoves());
+
+            //Moves done with indexes are recorded like any other move
+            Level level = ReplayPlayer.play(game.getReplay(), new LevelTemplate("levels/test/level1.txt"));
+            assertEquals(game.getBoardText(), level.toString());
+        } catch (LevelException | IOException e) {
+            fail("indexMoves failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("controller")
+    @DisplayName("Controller - prefetch")
+    void prefetch() {
+        try {
+            Game expected = new Game("levels/test/");
+            assertFalse(game.isPrefetch());
+            game.setPrefetch(true);
+            assertTrue(game.isPrefetch());
+
+            while (expected.nextLevel()) {
+                assertTrue(game.nextLevel());
+                assertEquals(expected.getCurrentLevel(), game.getCurrentLevel());
+                assertEquals(expected.getBoardText(), game.getBoardText());
+                assertEquals(expected.getDifficulty(), game.getDifficulty());
+                assertEquals(0, game.getNumMoves());
+            }
+            assertFalse(game.nextLevel());
+
+            game.setPrefetch(false);
+            assertFalse(game.isPrefetch());
+        } catch (LevelException | IOException e) {
+            fail("prefetch failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("controller")
+    @DisplayName("Controller - levels")
+    void levels() {
+        try {
+            List<LevelInfo> levels = game.getLevels();
+            assertEquals(2, levels.size());
+            for (LevelInfo info : levels) {
+                assertTrue(game.nextLevel());
+                assertEquals(game.getCurrentLevel(), info.getId());
+                assertEquals(game.getBoardSize(), info.getSize());
+                assertEquals(game.getDifficulty(), info.getDifficulty());
+            }
+            assertFalse(game.nextLevel());
+        } catch (LevelException e) {
+            fail("levels failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("controller")
+    @DisplayName("Controller - level source")
+    void levelSource() {
+        LevelSource source = new LevelSource() {
+            @Override
+            public int getNumLevels() {
+                return 2;
+            }
+
+            @Override
+            public LevelTemplate getTemplate(int numLevel) throws LevelException {
+                return new LevelTemplate("levels/test/level" + numLevel + ".txt");
+            }
+        };
+
+        try {
+            Game expected = new Game("levels/test/");
+            Game sourceGame = new Game(source);
+            assertEquals(expected.getLevels(), sourceGame.getLevels());
+
+            while (expected.nextLevel()) {
+                assertTrue(sourceGame.nextLevel());
+                assertEquals(expected.getBoardText(), sourceGame.getBoardText());
+            }
+            assertFalse(sourceGame.nextLevel());
+        } catch (LevelException | IOException e) {
+            fail("levelSource failed");
+            e.printStackTrace();
+        }
+    }
 }
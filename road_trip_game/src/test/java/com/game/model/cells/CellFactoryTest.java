@@ -32,8 +32,8 @@ class CellFactoryTest {
     void checkMethodsSanity() {
         assertEquals(1, ownClass.getDeclaredMethods().length);
         try {
-            assertTrue(isPublic(ownClass.getDeclaredMethod("getCellInstance", int.class, int.class, CellType.class).getModifiers()));
-            assertTrue(isStatic(ownClass.getDeclaredMethod("getCellInstance", int.class, int.class, CellType.class).getModifiers()));
+            assertTrue(isPublic(ownClass.getDeclaredMethod("getCellInstance", CellType.class).getModifiers()));
+            assertTrue(isStatic(ownClass.getDeclaredMethod("getCellInstance", CellType.class).getModifiers()));
         } catch (NoSuchMethodException e) {
             fail("There is some problem with the definition of Cell's methods/constructors. Please read the PRAC 2 - Statement:\n");
             e.printStackTrace();
@@ -44,26 +44,45 @@ class CellFactoryTest {
     @Tag("sanity")
     @DisplayName("Sanity - getCellInstance definition")
     void getCellInstance() {
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.TOP_LEFT) instanceof MovableCell);
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.TOP_LEFT) instanceof MovableCell);
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.BOTTOM_LEFT) instanceof MovableCell);
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.BOTTOM_RIGHT) instanceof MovableCell);
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.HORIZONTAL) instanceof MovableCell);
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.VERTICAL) instanceof MovableCell);
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.FREE) instanceof MovableCell);
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.ROTATABLE_VERTICAL) instanceof RotatableCell);
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.ROTATABLE_HORIZONTAL) instanceof RotatableCell);
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.RIVER) instanceof Cell
-                && !(CellFactory.getCellInstance(0, 0, CellType.RIVER) instanceof MovableCell)
-                && !(CellFactory.getCellInstance(0, 0, CellType.RIVER) instanceof RotatableCell));
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.MOUNTAINS) instanceof Cell
-                && !(CellFactory.getCellInstance(0, 0, CellType.MOUNTAINS) instanceof MovableCell)
-                && !(CellFactory.getCellInstance(0, 0, CellType.MOUNTAINS) instanceof RotatableCell));
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.START) instanceof Cell
-                && !(CellFactory.getCellInstance(0, 0, CellType.START) instanceof MovableCell)
-                && !(CellFactory.getCellInstance(0, 0, CellType.START) instanceof RotatableCell));
-        assertTrue(CellFactory.getCellInstance(0, 0, CellType.FINISH) instanceof Cell
-                && !(CellFactory.getCellInstance(0, 0, CellType.FINISH) instanceof MovableCell)
-                && !(CellFactory.getCellInstance(0, 0, CellType.FINISH) instanceof RotatableCell));
+        assertTrue(CellFactory.getCellInstance(CellType.TOP_LEFT) instanceof MovableCell);
+        assertTrue(CellFactory.getCellInstance(CellType.TOP_LEFT) instanceof MovableCell);
+        assertTrue(CellFactory.getCellInstance(CellType.BOTTOM_LEFT) instanceof MovableCell);
+        assertTrue(CellFactory.getCellInstance(CellType.BOTTOM_RIGHT) instanceof MovableCell);
+        assertTrue(CellFactory.getCellInstance(CellType.HORIZONTAL) instanceof MovableCell);
+        assertTrue(CellFactory.getCellInstance(CellType.VERTICAL) instanceof MovableCell);
+        assertTrue(CellFactory.getCellInstance(CellType.FREE) instanceof MovableCell);
+        assertTrue(CellFactory.getCellInstance(CellType.ROTATABLE_VERTICAL) instanceof RotatableCell);
+        assertTrue(CellFactory.getCellInstance(CellType.ROTATABLE_HORIZONTAL) instanceof RotatableCell);
+        assertTrue(CellFactory.getCellInstance(CellType.RIVER) instanceof Cell
+                && !(CellFactory.getCellInstance(CellType.RIVER) instanceof MovableCell)
+                && !(CellFactory.getCellInstance(CellType.RIVER) instanceof RotatableCell));
+        assertTrue(CellFactory.getCellInstance(CellType.MOUNTAINS) instanceof Cell
+                && !(CellFactory.getCellInstance(CellType.MOUNTAINS) instanceof MovableCell)
+                && !(CellFactory.getCellInstance(CellType.MOUNTAINS) instanceof RotatableCell));
+        assertTrue(CellFactory.getCellInstance(CellType.START) instanceof Cell
+                && !(CellFactory.getCellInstance(CellType.START) instanceof MovableCell)
+                && !(CellFactory.getCellInstance(CellType.START) instanceof RotatableCell));
+        assertTrue(CellFactory.getCellInstance(CellType.FINISH) instanceof Cell
+                && !(CellFactory.getCellInstance(CellType.FINISH) instanceof MovableCell)
+                && !(CellFactory.getCellInstance(CellType.FINISH) instanceof RotatableCell));
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - getCellInstance flyweights")
+    void getCellInstanceFlyweights() {
+        //Cells whose type never changes are shared
+        assertSame(CellFactory.getCellInstance(CellType.MOUNTAINS), CellFactory.getCellInstance(CellType.MOUNTAINS));
+        assertSame(CellFactory.getCellInstance(CellType.TOP_LEFT), CellFactory.getCellInstance(CellType.TOP_LEFT));
+        assertNotSame(CellFactory.getCellInstance(CellType.TOP_LEFT), CellFactory.getCellInstance(CellType.TOP_RIGHT));
+        for (CellType type : CellType.values()) {
+            assertEquals(type, CellFactory.getCellInstance(type).getType());
+        }
+
+        //Rotatable cells change when they are rotated, so they are not shared
+        RotatableCell rotatable = (RotatableCell) CellFactory.getCellInstance(CellType.ROTATABLE_VERTICAL);
+        assertNotSame(rotatable, CellFactory.getCellInstance(CellType.ROTATABLE_VERTICAL));
+        rotatable.rotate();
+        assertEquals(CellType.ROTATABLE_VERTICAL, CellFactory.getCellInstance(CellType.ROTATABLE_VERTICAL).getType());
     }
 }
@@ -1,6 +1,5 @@
 package com.game.model.cells;
 
-import com.game.model.utils.Coordinate;
 import org.junit.jupiter.api.*;
 
 import java.lang.reflect.Modifier;
@@ -17,7 +16,7 @@ class CellTest {
 
     @BeforeAll
     void setUp(){
-        c = new Cell(31,4,CellType.FREE);
+        c = new Cell(CellType.FREE);
     }
 
     @Test
@@ -44,24 +43,23 @@ class CellTest {
     @Tag("sanity")
     @DisplayName("Sanity - Methods definition")
     void checkMethodsSanity() {
-        //Min 7 methods
-        assertTrue(ownClass.getDeclaredMethods().length>=7);
-        //Max 5 public methods
-        assertEquals(5, Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
-        //Max 0 protected methods
-        assertEquals(2,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isProtected(p.getModifiers())).count());
+        //Min 5 methods
+        assertTrue(ownClass.getDeclaredMethods().length>=5);
+        //Max 4 public methods
+        assertEquals(4, Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
+        //Max 1 protected method
+        assertEquals(1,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isProtected(p.getModifiers())).count());
         //Max 0 package-private methods
         assertEquals(0,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isNative(p.getModifiers())).count());
 
         try{
             //These methods must be protected
             assertTrue(Modifier.isProtected(ownClass.getDeclaredMethod("setType", CellType.class).getModifiers()));
-            assertTrue(Modifier.isProtected(ownClass.getDeclaredMethod("setCoordinate", int.class,int.class).getModifiers()));
 
             //Number of constructors
             assertEquals(1,ownClass.getDeclaredConstructors().length);
             //Constructor
-            int modifiers = ownClass.getDeclaredConstructor(int.class,int.class,CellType.class).getModifiers();
+            int modifiers = ownClass.getDeclaredConstructor(CellType.class).getModifiers();
             assertTrue(Modifier.isPublic(modifiers));
 
         } catch (NoSuchMethodException e) {
@@ -88,25 +86,6 @@ class CellTest {
         c.setType(CellType.FREE);
     }
 
-    @Test
-    @Tag("minimum")
-    @DisplayName("Minimum - getCoordinate")
-    void getCoordinate() {
-        Assertions.assertEquals(31, c.getCoordinate().getRow());
-        Assertions.assertEquals(4, c.getCoordinate().getColumn());
-        Assertions.assertEquals(new Coordinate(31,4), c.getCoordinate());
-    }
-
-    @Test
-    @Tag("minimum")
-    @DisplayName("Minimum - setCoordinate")
-    void setCoordinate() {
-        c.setCoordinate(5,-2);
-        Assertions.assertEquals(5, c.getCoordinate().getRow());
-        Assertions.assertEquals(-2, c.getCoordinate().getColumn());
-        c.setCoordinate(31,4);
-    }
-
     @Test
     @Tag("minimum")
     @DisplayName("Minimum - isMovable")
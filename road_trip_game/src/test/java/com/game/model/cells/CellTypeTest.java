@@ -50,8 +50,8 @@ class CellTypeTest {
         assertTrue(Arrays.stream(ownClass.getDeclaredFields()).filter(ModifierSupport::isPrivate).count() >= 5);
         //Max 4 Enum values
         assertEquals(13, Arrays.stream(ownClass.getDeclaredFields()).filter(Field::isEnumConstant).count());
-        //Max 14 static values. There is an implicit private static $VALUES field
-        assertEquals(14, Arrays.stream(ownClass.getDeclaredFields()).filter(ModifierSupport::isStatic).count());
+        //Max 15 static values. There are an implicit private static $VALUES field and the BY_FILE_SYMBOL lookup table
+        assertEquals(15, Arrays.stream(ownClass.getDeclaredFields()).filter(ModifierSupport::isStatic).count());
 
         //Min 4 char fields
         assertTrue(Arrays.stream(ownClass.getDeclaredFields()).filter(p -> p.getType().getSimpleName().equals("char")).count() >= 2);
@@ -65,8 +65,8 @@ class CellTypeTest {
     void checkMethodsSanity() {
         //Min 4 methods
         assertTrue(ownClass.getDeclaredMethods().length>=4);
-        //Max 6 public methods + 2 implicit public methods (values() and valueOf()).
-        assertEquals(8,Arrays.stream(ownClass.getDeclaredMethods()).filter(ModifierSupport::isPublic).count());
+        //Max 9 public methods + 2 implicit public methods (values() and valueOf()).
+        assertEquals(11,Arrays.stream(ownClass.getDeclaredMethods()).filter(ModifierSupport::isPublic).count());
         //Max 0 protected methods
         assertEquals(0,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isProtected(p.getModifiers())).count());
         //Max 0 package-private methods
@@ -159,6 +159,22 @@ class CellTypeTest {
         assertEquals(EnumSet.of(Direction.LEFT, Direction.RIGHT), CellType.ROTATABLE_HORIZONTAL.getAvailableConnections());
     }
 
+    @Test
+    @Tag("minimum")
+    @DisplayName("Minimum - getConnectionMask")
+    void getConnectionMask() {
+        for (CellType type : CellType.values()) {
+            int mask = 0;
+            for (Direction direction : type.getAvailableConnections()) {
+                mask |= 1 << direction.ordinal();
+            }
+            assertEquals(mask, type.getConnectionMask());
+        }
+        assertEquals(0b0001, CellType.START.getConnectionMask());
+        assertEquals(0b0100, CellType.FINISH.getConnectionMask());
+        assertEquals(0b1010, CellType.HORIZONTAL.getConnectionMask());
+    }
+
     @Test
     @Tag("minimum")
     @DisplayName("Minimum - map2CellType")
@@ -176,6 +192,8 @@ class CellTypeTest {
         assertEquals(CellType.FREE, CellType.map2CellType('·'));
         assertEquals(CellType.ROTATABLE_VERTICAL, CellType.map2CellType('G'));
         assertEquals(CellType.ROTATABLE_HORIZONTAL, CellType.map2CellType('g'));
+        assertNull(CellType.map2CellType('?'));
+        assertNull(CellType.map2CellType('\u2554'));
     }
 
     @Test
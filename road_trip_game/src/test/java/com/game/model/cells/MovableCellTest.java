@@ -1,6 +1,5 @@
 package com.game.model.cells;
 
-import com.game.model.utils.Coordinate;
 import org.junit.jupiter.api.*;
 
 import java.lang.reflect.Modifier;
@@ -17,7 +16,7 @@ class MovableCellTest {
 
     @BeforeAll
     void setUp() {
-        c = new MovableCell(31, 4, CellType.BOTTOM_LEFT);
+        c = new MovableCell(CellType.BOTTOM_LEFT);
     }
 
     @Test
@@ -49,8 +48,8 @@ class MovableCellTest {
     @Tag("sanity")
     @DisplayName("Sanity - Methods and Constructors definition")
     void checkMethodsSanity() {
-        //Max 3 public methods
-        assertEquals(3, Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
+        //Max 2 public methods
+        assertEquals(2, Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
         //Max 0 protected methods
         assertEquals(0, Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isProtected(p.getModifiers())).count());
         //Max 0 package-private methods
@@ -61,7 +60,7 @@ class MovableCellTest {
 
         //Constructor
         try {
-            int modifiers = ownClass.getDeclaredConstructor(int.class, int.class, CellType.class).getModifiers();
+            int modifiers = ownClass.getDeclaredConstructor(CellType.class).getModifiers();
             assertTrue(Modifier.isPublic(modifiers));
         } catch (NoSuchMethodException e) {
             fail("The definition of MovableCell class is wrong. Please read the PRAC 2 - Statement:\n");
@@ -85,18 +84,8 @@ class MovableCellTest {
 
     @Test
     @Tag("minimum")
-    @DisplayName("Minimum - move")
-    void move() {
-        Coordinate coord = new Coordinate(8, 9);
-        c.move(coord);
-        Assertions.assertEquals(coord, c.getCoordinate());
-        Assertions.assertEquals(8, c.getCoordinate().getRow());
-        Assertions.assertEquals(9, c.getCoordinate().getColumn());
-
-        coord = new Coordinate(31, 4);
-        c.move(coord);
-        Assertions.assertEquals(coord, c.getCoordinate());
-        Assertions.assertEquals(31, c.getCoordinate().getRow());
-        Assertions.assertEquals(4, c.getCoordinate().getColumn());
+    @DisplayName("Minimum - getType")
+    void getType() {
+        assertEquals(CellType.BOTTOM_LEFT, c.getType());
     }
 }
@@ -41,7 +41,8 @@ class MovableTest {
     @Tag("sanity")
     @DisplayName("Sanity - Methods definition")
     void checkMethodsSanity() {
-        assertEquals(1,ownClass.getDeclaredMethods().length);
+        //Marker interface: the position of a cell is given by the board
+        assertEquals(0,ownClass.getDeclaredMethods().length);
 
         assertTrue(Arrays.stream(ownClass.getDeclaredMethods()).noneMatch(Method::isDefault));
     }
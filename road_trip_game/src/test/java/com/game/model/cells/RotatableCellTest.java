@@ -16,7 +16,7 @@ class RotatableCellTest {
 
     @BeforeAll
     void setUp(){
-        c = new RotatableCell(-15,40,CellType.ROTATABLE_HORIZONTAL);
+        c = new RotatableCell(CellType.ROTATABLE_HORIZONTAL);
     }
 
     @Test
@@ -60,7 +60,7 @@ class RotatableCellTest {
 
         //Constructor
         try {
-            int modifiers = ownClass.getDeclaredConstructor(int.class,int.class,CellType.class).getModifiers();
+            int modifiers = ownClass.getDeclaredConstructor(CellType.class).getModifiers();
             assertTrue(Modifier.isPublic(modifiers));
         } catch (NoSuchMethodException e) {
             fail("The definition of MovableCell class is wrong. Please read the PRAC 2 - Statement:\n");
@@ -92,7 +92,7 @@ class RotatableCellTest {
         c.rotate();
         assertEquals(CellType.ROTATABLE_HORIZONTAL,c.getType());
 
-        RotatableCell c2 = new RotatableCell(1,1,CellType.BOTTOM_LEFT);
+        RotatableCell c2 = new RotatableCell(CellType.BOTTOM_LEFT);
         c2.rotate();
         assertEquals(CellType.TOP_LEFT,c2.getType());
         c2.rotate();
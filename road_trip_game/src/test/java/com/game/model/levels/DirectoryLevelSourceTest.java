@@ -0,0 +1,74 @@
+package com.game.model.levels;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class DirectoryLevelSourceTest {
+
+    private static final int NUM_LEVELS = 7;
+
+    private void copyLevels(Path folder) throws IOException {
+        for (int i = 1; i <= NUM_LEVELS; i++) {
+            try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("levels/level" + i + ".txt")) {
+                Files.write(folder.resolve("level" + i + ".txt"), Objects.requireNonNull(inputStream).readAllBytes());
+            }
+        }
+        Files.writeString(folder.resolve("notes.txt"), "Not a level");
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - levels of a folder")
+    void getTemplate(@TempDir Path folder) {
+        try {
+            copyLevels(folder);
+            DirectoryLevelSource source = new DirectoryLevelSource(folder);
+
+            assertEquals(folder, source.getFolder());
+            assertEquals(NUM_LEVELS, source.getNumLevels());
+            for (int i = 1; i <= NUM_LEVELS; i++) {
+                Level expected = new Level("levels/level" + i + ".txt");
+                assertEquals(expected.toString(), source.getTemplate(i).newLevel().toString());
+                assertEquals(new LevelInfo(i, expected.getSize(), expected.getDifficulty()), source.getInfo(i));
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> source.getTemplate(NUM_LEVELS + 1));
+
+            Files.delete(folder.resolve("level7.txt"));
+            LevelException ex = assertThrows(LevelException.class, () -> source.getTemplate(NUM_LEVELS));
+            assertEquals(LevelException.ERROR_PARSING_LEVEL_FILE, ex.getMessage());
+        } catch (IOException | LevelException e) {
+            fail("getTemplate failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - folder with manifest")
+    void manifest(@TempDir Path folder) {
+        try {
+            copyLevels(folder);
+            Files.writeString(folder.resolve(LevelManifest.FILE_NAME), "# id size difficulty\n1 3 STARTER\n2 4 JUNIOR\n");
+            DirectoryLevelSource source = new DirectoryLevelSource(folder);
+
+            assertEquals(2, source.getNumLevels());
+            assertEquals(new LevelInfo(2, 4, LevelDifficulty.JUNIOR), source.getLevels().get(1));
+        } catch (IOException | LevelException e) {
+            fail("manifest failed");
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.game.model.levels;
+
+import com.game.model.cells.CellType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class LevelGeneratorTest {
+
+    @ParameterizedTest
+    @EnumSource(LevelDifficulty.class)
+    @Tag("advanced")
+    @DisplayName("Advanced - generateBoard")
+    void generateBoard(LevelDifficulty difficulty) {
+        LevelGenerator generator = new LevelGenerator(difficulty.ordinal());
+        int size = LevelGenerator.getBoardSize(difficulty);
+
+        for (int i = 0; i < 1000; i++) {
+            byte[] board = generator.generateBoard(size, LevelGenerator.getScrambleDepth(difficulty));
+            assertEquals(size * size, board.length);
+
+            int start = RouteTracer.findStart(board, size);
+            assertTrue(start >= 0);
+            assertFalse(RouteTracer.isSolved(board, size, start));
+
+            int finish = 0;
+            for (int column = 0; column < size; column++) {
+                if (board[column] == CellType.FINISH.ordinal()) {
+                    finish++;
+                }
+            }
+            assertEquals(1, finish);
+            assertTrue(LevelSolver.indexesOf(board, true).length + LevelSolver.indexesOf(board, false).length > 0);
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - generate")
+    void generate() {
+        String text = new LevelGenerator(7).generate(LevelDifficulty.WIZARD);
+        String[] lines = text.split("\n");
+
+        assertEquals("# rows and cols", lines[0]);
+        assertEquals("5", lines[1]);
+        assertEquals("# difficulty", lines[3]);
+        assertEquals("WIZARD", lines[4]);
+        assertEquals("# map", lines[6]);
+        assertEquals(12, lines.length);
+        for (int row = 7; row < 12; row++) {
+            assertEquals(5, lines[row].length());
+            for (char symbol : lines[row].toCharArray()) {
+                assertNotNull(CellType.map2CellType(symbol));
+            }
+        }
+
+        //Same seed, same levels
+        assertEquals(text, new LevelGenerator(7).generate(LevelDifficulty.WIZARD));
+        assertEquals(64 + 7, new LevelGenerator(1).generate(64, LevelDifficulty.WIZARD, 20).split("\n").length);
+
+        assertThrows(IllegalArgumentException.class, () -> new LevelGenerator(1).generate(2, LevelDifficulty.STARTER, 1));
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - generateSolved")
+    void generateSolved() {
+        try {
+            for (int size : new int[] {3, 5, 16, 64}) {
+                String text = new LevelGenerator(size).generateSolved(size, LevelDifficulty.MASTER);
+                Level level = Level.fromReader(new StringReader(text));
+                assertEquals(size, level.getSize());
+                assertEquals(LevelDifficulty.MASTER, level.getDifficulty());
+                assertTrue(level.isSolved());
+            }
+            assertThrows(IllegalArgumentException.class, () -> new LevelGenerator(1).generateSolved(2, LevelDifficulty.STARTER));
+        } catch (LevelException e) {
+            fail("generateSolved failed");
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.game.model.levels;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class LevelManifestTest {
+
+    private InputStream toStream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - read manifest")
+    void read() {
+        try {
+            List<LevelInfo> levels = LevelManifest.read(toStream("# id size difficulty\n\n2 4 JUNIOR\r\n1 3 STARTER\n"));
+
+            assertEquals(2, levels.size());
+            assertEquals(new LevelInfo(1, 3, LevelDifficulty.STARTER), levels.get(0));
+            assertEquals(new LevelInfo(2, 4, LevelDifficulty.JUNIOR), levels.get(1));
+            assertEquals("2 4 JUNIOR", levels.get(1).toString());
+            assertThrows(UnsupportedOperationException.class, () -> levels.add(levels.get(0)));
+
+            assertTrue(LevelManifest.read(toStream("")).isEmpty());
+        } catch (IOException e) {
+            fail("read failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - read malformed manifest")
+    void readMalformed() {
+        assertThrows(IOException.class, () -> LevelManifest.read(toStream("1 3\n")));
+        assertThrows(IOException.class, () -> LevelManifest.read(toStream("1 three STARTER\n")));
+        assertThrows(IOException.class, () -> LevelManifest.read(toStream("1 3 EASY\n")));
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - generated manifest")
+    void generatedManifest() {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("levels/test/" + LevelManifest.FILE_NAME)) {
+            assertNotNull(inputStream);
+            List<LevelInfo> levels = LevelManifest.read(inputStream);
+
+            assertEquals(2, levels.size());
+            for (int id = 1; id <= levels.size(); id++) {
+                Level level = new Level("levels/test/level" + id + ".txt");
+                assertEquals(new LevelInfo(id, level.getSize(), level.getDifficulty()), levels.get(id - 1));
+            }
+        } catch (IOException | LevelException e) {
+            fail("generatedManifest failed");
+            e.printStackTrace();
+        }
+    }
+}
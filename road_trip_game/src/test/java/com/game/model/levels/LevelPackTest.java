@@ -0,0 +1,99 @@
+package com.game.model.levels;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class LevelPackTest {
+
+    private static final int NUM_LEVELS = 7;
+
+    /**
+     * Copies the levels of the game into the given folder, as files.
+     */
+    private void copyLevels(Path folder) throws IOException {
+        for (int i = 1; i <= NUM_LEVELS; i++) {
+            try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("levels/level" + i + ".txt")) {
+                Files.write(folder.resolve("level" + i + ".txt"), Objects.requireNonNull(inputStream).readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - convert and load a level pack")
+    void convert(@TempDir Path folder) {
+        try {
+            copyLevels(folder);
+            Path packFile = folder.resolve("levels.pack");
+            assertEquals(NUM_LEVELS, LevelPackConverter.convert(folder, packFile));
+
+            LevelPack pack = LevelPack.open(packFile);
+            assertEquals(NUM_LEVELS, pack.getNumLevels());
+
+            List<LevelInfo> infos = pack.getLevels();
+            for (int i = 1; i <= NUM_LEVELS; i++) {
+                Level expected = new Level("levels/level" + i + ".txt");
+                Level level = pack.getTemplate(i).newLevel();
+
+                assertEquals(expected.toString(), level.toString());
+                assertEquals(expected.getDifficulty(), level.getDifficulty());
+                assertEquals(expected.getRouteLength(), level.getRouteLength());
+                assertEquals(expected.isSolved(), level.isSolved());
+                assertEquals(new LevelInfo(i, expected.getSize(), expected.getDifficulty()), infos.get(i - 1));
+            }
+
+            assertThrows(IndexOutOfBoundsException.class, () -> pack.getTemplate(0));
+            assertThrows(IndexOutOfBoundsException.class, () -> pack.getTemplate(NUM_LEVELS + 1));
+        } catch (IOException | LevelException e) {
+            fail("convert failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - invalid level packs")
+    void invalidPack(@TempDir Path folder) {
+        try {
+            assertThrows(IOException.class, () -> LevelPack.of(ByteBuffer.wrap(new byte[]{1, 2, 3})));
+            assertThrows(IOException.class, () -> LevelPack.of(ByteBuffer.allocate(12).putInt(LevelPack.MAGIC).putInt(99).flip()));
+            //The index says that there are two levels but it is missing
+            assertThrows(IOException.class, () -> LevelPack.of(ByteBuffer.allocate(12)
+                    .putInt(LevelPack.MAGIC).putInt(LevelPack.VERSION).putInt(2).flip()));
+
+            copyLevels(folder);
+            Path packFile = folder.resolve("levels.pack");
+            LevelPackConverter.convert(folder, packFile);
+
+            //Truncated record
+            byte[] bytes = Files.readAllBytes(packFile);
+            LevelPack truncated = LevelPack.of(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+            LevelException ex = assertThrows(LevelException.class, () -> truncated.getTemplate(NUM_LEVELS));
+            assertEquals(LevelException.ERROR_PARSING_LEVEL_FILE, ex.getMessage());
+            assertNotNull(truncated.getTemplate(1));
+
+            //Invalid level files are not converted
+            Files.copy(Objects.requireNonNull(getClass().getClassLoader()
+                    .getResourceAsStream("levels/errors/level-error-no-finish.txt")), folder.resolve("level8.txt"));
+            assertThrows(IOException.class, () -> LevelPackConverter.convert(folder, packFile));
+        } catch (IOException | LevelException e) {
+            fail("invalidPack failed");
+            e.printStackTrace();
+        }
+    }
+}
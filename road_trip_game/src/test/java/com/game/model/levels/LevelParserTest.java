@@ -0,0 +1,98 @@
+package com.game.model.levels;
+
+import com.game.model.cells.CellType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class LevelParserTest {
+
+    private LevelParser parse(String text) throws LevelParseException {
+        LevelParser parser = new LevelParser(new StringReader(text));
+        parser.parse();
+        return parser;
+    }
+
+    private void assertError(String text, String message, int line, int column) {
+        LevelParseException ex = assertThrows(LevelParseException.class, () -> parse(text));
+        assertEquals(message, ex.getMessage());
+        assertEquals(line, ex.getLine());
+        assertEquals(column, ex.getColumn());
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - parse")
+    void parse() {
+        try {
+            LevelParser parser = parse("# Level\r\n\r\n# rows and cols\r\n3\r\n# difficulty\r\nJUNIOR\r\n\r\n# map\r\nF··\r\nVMx\r\nS~·\r\n"
+                    .replace("x", "·"));
+
+            assertEquals(3, parser.getSize());
+            assertEquals(LevelDifficulty.JUNIOR, parser.getDifficulty());
+            assertEquals(6, parser.getStartIndex());
+            assertArrayEquals(new byte[]{
+                    (byte) CellType.FINISH.ordinal(), (byte) CellType.FREE.ordinal(), (byte) CellType.FREE.ordinal(),
+                    (byte) CellType.VERTICAL.ordinal(), (byte) CellType.MOUNTAINS.ordinal(), (byte) CellType.FREE.ordinal(),
+                    (byte) CellType.START.ordinal(), (byte) CellType.RIVER.ordinal(), (byte) CellType.FREE.ordinal()},
+                    parser.getBoard());
+
+            //Old Mac line breaks and no final line break
+            assertEquals(8, parse("3\rSTARTER\r··F\rg~~\r··S").getStartIndex());
+        } catch (LevelParseException e) {
+            fail("parse failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - parse errors")
+    void parseErrors() {
+        assertError("", LevelException.ERROR_PARSING_LEVEL_FILE, 1, -1);
+        assertError("# size\nSTARTER\nF··\nV··\nS··\n", LevelException.ERROR_PARSING_LEVEL_FILE, 2, 1);
+        assertError("2\nSTARTER\nF·\nS·\n", LevelException.ERROR_BOARD_SIZE, 1, 1);
+        assertError("3\nEASY\nF··\nV··\nS··\n", LevelException.ERROR_PARSING_LEVEL_FILE, 2, 1);
+        assertError("3\nSTARTER\nF··\nV?·\nS··\n", LevelException.ERROR_PARSING_LEVEL_FILE, 4, 2);
+        assertError("3\nSTARTER\nF··\nV·\nS··\n", LevelException.ERROR_PARSING_LEVEL_FILE, 4, 3);
+        assertError("3\nSTARTER\nF··\nV··\n", LevelException.ERROR_PARSING_LEVEL_FILE, 5, -1);
+
+        //Requirements of the board, in the same order of priority as Level
+        assertError("3\nSTARTER\nF·S\nV··\nS·F\n", LevelException.ERROR_PARSING_LEVEL_FILE, 5, 1);
+        assertError("3\nSTARTER\nF··\nVF·\nS··\n", LevelException.ERROR_PARSING_LEVEL_FILE, 4, 2);
+        assertError("3\nSTARTER\nF··\nV··\n···\n", LevelException.ERROR_NO_STARTING, 5, -1);
+        assertError("3\nSTARTER\n···\nV··\nS··\n", LevelException.ERROR_NO_FINISH, 3, -1);
+        assertError("3\nSTARTER\nF~~\nMMM\nS~~\n", LevelException.ERROR_NO_ROAD, -1, -1);
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - parse buffer")
+    void parseBuffer() {
+        try {
+            LevelParser parser = new LevelParser(ByteBuffer.wrap("3\nWIZARD\nF\u00b7\u00b7\ng~~\nS\u00b7\u00b7".getBytes(StandardCharsets.UTF_8)));
+            parser.parse();
+            assertEquals(LevelDifficulty.WIZARD, parser.getDifficulty());
+            assertEquals(CellType.ROTATABLE_HORIZONTAL.ordinal(), parser.getBoard()[3]);
+            assertEquals(CellType.FREE.ordinal(), parser.getBoard()[8]);
+        } catch (LevelParseException e) {
+            fail("parseBuffer failed");
+            e.printStackTrace();
+        }
+
+        //Invalid UTF-8 in the third line
+        LevelParser parser = new LevelParser(ByteBuffer.wrap(new byte[]{'3', '\n', 'S', 'T', 'A', 'R', 'T', 'E', 'R', '\n', 'F', (byte) 0xC2, 0x41}));
+        LevelParseException ex = assertThrows(LevelParseException.class, parser::parse);
+        assertEquals(LevelException.ERROR_PARSING_LEVEL_FILE, ex.getMessage());
+        assertEquals(3, ex.getLine());
+    }
+}
@@ -0,0 +1,137 @@
+package com.game.model.levels;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class LevelSolverTest {
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - solve minimal moves")
+    void solveMinimal() {
+        try {
+            Level level = new Level("levels/test/level1.txt");
+            Solution solution = level.solve();
+
+            assertTrue(solution.isSolvable());
+            assertEquals(2, solution.getNumMoves());
+            assertTrue(solution.getNodesExpanded() > 0);
+            assertTrue(solution.getWallTime() > 0);
+
+            //The search must not modify the level
+            assertEquals(0, level.getNumMoves());
+            assertFalse(level.isSolved());
+
+            for (Move move : solution.getMoves()) {
+                move.apply(level);
+            }
+            assertTrue(level.isSolved());
+            assertEquals(2, level.getNumMoves());
+        } catch (LevelException e) {
+            fail("solveMinimal failed");
+            e.printStackTrace();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1,2,3,4,5,6,7,8,9})
+    @Tag("advanced")
+    @DisplayName("Advanced - solve already solved levels")
+    void solveSolved(int id) {
+        try {
+            Solution solution = new Level("levels/solved/level" + id + ".txt").solve();
+            assertTrue(solution.isSolvable());
+            assertEquals(0, solution.getNumMoves());
+        } catch (LevelException e) {
+            fail("solveSolved failed");
+            e.printStackTrace();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3,5,6})
+    @Tag("advanced")
+    @DisplayName("Advanced - parallel solve")
+    void solveParallel(int id) {
+        try {
+            Level level = new Level("levels/level" + id + ".txt");
+            Solution sequential = level.solve();
+            Solution parallel;
+            try (ParallelLevelSolver solver = new ParallelLevelSolver(4)) {
+                parallel = solver.solve(level);
+            }
+
+            assertTrue(parallel.isSolvable());
+            assertEquals(sequential.getNumMoves(), parallel.getNumMoves());
+
+            Level copy = level.copy();
+            for (Move move : parallel.getMoves()) {
+                move.apply(copy);
+            }
+            assertTrue(copy.isSolved());
+
+            assertThrows(IllegalArgumentException.class, () -> new ParallelLevelSolver(0));
+        } catch (LevelException e) {
+            fail("solveParallel failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - solve with node limit")
+    void solveWithLimit() {
+        try {
+            Level level = new Level("levels/level5.txt");
+            Solution solution = new LevelSolver(1).solve(level);
+            assertEquals(Solution.Status.EXHAUSTED, solution.getStatus());
+            assertFalse(solution.isSolvable());
+            assertNull(solution.getMoves());
+            assertEquals(-1, solution.getNumMoves());
+            assertEquals(1, solution.getNodesExpanded());
+
+            try (ParallelLevelSolver solver = new ParallelLevelSolver(4, 1)) {
+                Solution parallel = solver.solve(level);
+                assertEquals(Solution.Status.EXHAUSTED, parallel.getStatus());
+                assertFalse(parallel.isSolvable());
+                assertNull(parallel.getMoves());
+            }
+
+            assertEquals(Solution.Status.SOLVED, new LevelSolver().solve(level).getStatus());
+
+            assertThrows(IllegalArgumentException.class, () -> new LevelSolver(0));
+        } catch (LevelException e) {
+            fail("solveWithLimit failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - solve unsolvable level")
+    void solveUnsolvable() {
+        try {
+            //The mountains cut every route from START to FINISH and no cell can be moved or rotated
+            Solution solution = new Level("levels/unsolvable/level1.txt").solve();
+            assertEquals(Solution.Status.UNSOLVABLE, solution.getStatus());
+            assertFalse(solution.isSolvable());
+            assertNull(solution.getMoves());
+            assertEquals(-1, solution.getNumMoves());
+
+            try (ParallelLevelSolver solver = new ParallelLevelSolver(4)) {
+                assertEquals(Solution.Status.UNSOLVABLE, solver.solve(new Level("levels/unsolvable/level1.txt")).getStatus());
+            }
+        } catch (LevelException e) {
+            fail("solveUnsolvable failed");
+            e.printStackTrace();
+        }
+    }
+}
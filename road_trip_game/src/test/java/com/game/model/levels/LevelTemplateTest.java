@@ -0,0 +1,97 @@
+package com.game.model.levels;
+
+import com.game.model.utils.Coordinate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class LevelTemplateTest {
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - newLevel")
+    void newLevel() {
+        try {
+            LevelTemplate template = new LevelTemplate("levels/test/level1.txt");
+            Level level = new Level("levels/test/level1.txt");
+
+            assertEquals(level.getSize(), template.getSize());
+            assertEquals(level.getDifficulty(), template.getDifficulty());
+            assertEquals(level.toString(), template.toString());
+
+            Level first = template.newLevel();
+            assertEquals(level.toString(), first.toString());
+            assertEquals(0, first.getNumMoves());
+            assertFalse(first.isSolved());
+
+            first.swapCells(new Coordinate(1,0), new Coordinate(2,0));
+            assertEquals(1, first.getNumMoves());
+
+            //Moves done on a level must not change the template nor other levels
+            Level second = template.newLevel();
+            assertEquals(level.toString(), second.toString());
+            assertEquals(level.toString(), template.toString());
+            assertEquals(0, second.getNumMoves());
+            assertEquals(level.getRouteLength(), second.getRouteLength());
+            assertNotEquals(first.toString(), second.toString());
+        } catch (LevelException e) {
+            fail("newLevel failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - copy-on-write levels")
+    void copyOnWrite() {
+        try {
+            LevelTemplate template = new LevelTemplate("levels/test/level1.txt");
+            Level level = new Level("levels/test/level1.txt");
+            Level first = template.newLevel();
+            Level second = template.newLevel();
+
+            //A copy of a level that has not been played yet is also shared
+            Level copy = first.copy();
+            assertEquals(level.toString(), copy.toString());
+
+            first.rotateCell(new Coordinate(1,3));
+            first.swapCells(new Coordinate(1,0), new Coordinate(2,0));
+            assertEquals(2, first.getNumMoves());
+            assertEquals(level.toString(), second.toString());
+            assertEquals(level.toString(), copy.toString());
+            assertEquals(level.toString(), template.toString());
+            assertEquals(level.getCell(new Coordinate(1,3)).toString(), second.getCell(new Coordinate(1,3)).toString());
+
+            copy.swapCells(new Coordinate(1,0), new Coordinate(2,0));
+            assertNotEquals(first.toString(), copy.toString());
+            assertEquals(level.toString(), second.toString());
+
+            //Undoing every move gives back the initial board
+            assertTrue(first.undo());
+            assertTrue(first.undo());
+            assertEquals(level.toString(), first.toString());
+            assertEquals(level.getRouteLength(), first.getRouteLength());
+            assertEquals(level.isSolved(), first.isSolved());
+
+            template.reset(first);
+            assertEquals(level.toString(), first.toString());
+            assertFalse(first.canRedo());
+        } catch (LevelException e) {
+            fail("copyOnWrite failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - invalid template")
+    void invalidTemplate() {
+        LevelException ex = assertThrows(LevelException.class, () -> new LevelTemplate("levels/errors/level-error-no-starting.txt"));
+        assertEquals(LevelException.ERROR_NO_STARTING, ex.getMessage());
+    }
+}
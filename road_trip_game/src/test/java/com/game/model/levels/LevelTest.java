@@ -5,16 +5,24 @@ import com.game.model.cells.CellType;
 import com.game.model.cells.MovableCell;
 import com.game.model.cells.RotatableCell;
 import com.game.model.utils.Coordinate;
-import edu.uoc.trip.model.cells.*;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.support.ModifierSupport;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
@@ -79,14 +87,14 @@ class LevelTest {
     void checkMethodsSanity() {
         //Min 17 methods
         assertTrue(ownClass.getDeclaredMethods().length>=17);
-        //Max 8 public methods
-        assertEquals(8,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
+        //Max 25 public methods, 4 of them are the static factories fromPath, fromReader, fromStream and fromBuffer
+        assertEquals(25,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
         //Max 0 protected methods
         assertEquals(0,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isProtected(p.getModifiers())).count());
         //Max 0 package-private methods
         assertEquals(0,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isNative(p.getModifiers())).count());
-        //Min 7 private methods
-        assertTrue(Arrays.stream(ownClass.getDeclaredMethods()).filter(ModifierSupport::isPrivate).count()>=7);
+        //Min 5 private methods. The board is read by LevelParser
+        assertTrue(Arrays.stream(ownClass.getDeclaredMethods()).filter(ModifierSupport::isPrivate).count()>=5);
 
         try {
             //These methods must be private
@@ -94,12 +102,10 @@ class LevelTest {
             assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("setDifficulty", LevelDifficulty.class).getModifiers()));
             assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("setNumMoves", int.class).getModifiers()));
             assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("parse",String.class).getModifiers()));
-            assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("getFirstNonEmptyLine", BufferedReader.class).getModifiers()));
             assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("validatePosition", Coordinate.class).getModifiers()));
-            assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("setCell", Coordinate.class, Cell.class).getModifiers()));
 
-            //Max 1 constructor
-            assertEquals(1,ownClass.getDeclaredConstructors().length);
+            //Max 1 public constructor. The others are used by copy(), LevelPack and the static factories
+            assertEquals(1,Arrays.stream(ownClass.getDeclaredConstructors()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
 
             //Constructor
             int modifiers = ownClass.getDeclaredConstructor(String.class).getModifiers();
@@ -147,17 +153,17 @@ class LevelTest {
     @DisplayName("Minimum - getNumMoves")
     void getNumMoves() {
         try {
-            MovableCell cellMovable1 = (MovableCell) level.getCell(new Coordinate(1, 0));
-            MovableCell cellMovable2 = (MovableCell) level.getCell(new Coordinate(2, 2));
+            Coordinate coordMovable1 = new Coordinate(1, 0);
+            Coordinate coordMovable2 = new Coordinate(2, 2);
 
             assertEquals(0, level.getNumMoves());
-            level.swapCells(cellMovable1.getCoordinate(), cellMovable2.getCoordinate());
+            level.swapCells(coordMovable1, coordMovable2);
             assertEquals(1, level.getNumMoves());
 
-            level.swapCells(cellMovable2.getCoordinate(), cellMovable1.getCoordinate());
+            level.swapCells(coordMovable2, coordMovable1);
             assertEquals(2, level.getNumMoves());
 
-            level.swapCells(cellMovable1.getCoordinate(), cellMovable2.getCoordinate());
+            level.swapCells(coordMovable1, coordMovable2);
             assertEquals(3, level.getNumMoves());
 
             level.rotateCell(new Coordinate(1, 3));
@@ -200,28 +206,32 @@ class LevelTest {
     @DisplayName("Minimum - swapCells")
     void swapCells() {
         try {
-            Cell cellStart = level.getCell(new Coordinate(0, 0));
-            RotatableCell cellRotatable = (RotatableCell) level.getCell(new Coordinate(1, 3));
-            MovableCell cellMovable1 = (MovableCell) level.getCell(new Coordinate(1, 0));
-            MovableCell cellMovable2 = (MovableCell) level.getCell(new Coordinate(2, 2));
-
-            LevelException ex = assertThrows(LevelException.class, () ->
-                    level.swapCells(cellStart.getCoordinate(), cellMovable1.getCoordinate()));
+            Coordinate coordStart = new Coordinate(0, 0);
+            Coordinate coordRotatable = new Coordinate(1, 3);
+            Coordinate coordMovable1 = new Coordinate(1, 0);
+            Coordinate coordMovable2 = new Coordinate(2, 2);
+            Cell cellMovable1 = level.getCell(coordMovable1);
+            Cell cellMovable2 = level.getCell(coordMovable2);
+
+            LevelException ex = assertThrows(LevelException.class, () -> level.swapCells(coordStart, coordMovable1));
             assertEquals(LevelException.ERROR_NO_MOVABLE_CELL, ex.getMessage());
 
-            ex = assertThrows(LevelException.class, () -> level.swapCells(cellMovable1.getCoordinate(), cellRotatable.getCoordinate()));
+            ex = assertThrows(LevelException.class, () -> level.swapCells(coordMovable1, coordRotatable));
             assertEquals(LevelException.ERROR_NO_MOVABLE_CELL, ex.getMessage());
 
-            ex = assertThrows(LevelException.class, () -> level.swapCells(cellStart.getCoordinate(), cellRotatable.getCoordinate()));
+            ex = assertThrows(LevelException.class, () -> level.swapCells(coordStart, coordRotatable));
             assertEquals(LevelException.ERROR_NO_MOVABLE_CELL, ex.getMessage());
 
-            Assertions.assertEquals("(1,0)", cellMovable1.getCoordinate().toString());
-            Assertions.assertEquals("(2,2)", cellMovable2.getCoordinate().toString());
+            assertEquals(CellType.BOTTOM_RIGHT, cellMovable1.getType());
+            assertEquals(CellType.TOP_RIGHT, cellMovable2.getType());
 
-            level.swapCells(cellMovable1.getCoordinate(), cellMovable2.getCoordinate());
+            level.swapCells(coordMovable1, coordMovable2);
 
-            Assertions.assertEquals("(2,2)", cellMovable1.getCoordinate().toString());
-            Assertions.assertEquals("(1,0)", cellMovable2.getCoordinate().toString());
+            //Cells do not depend on their position, so the board now hands them out at the swapped coordinates
+            assertSame(cellMovable1, level.getCell(coordMovable2));
+            assertSame(cellMovable2, level.getCell(coordMovable1));
+            assertEquals(CellType.TOP_RIGHT, level.getCell(coordMovable1).getType());
+            assertEquals(CellType.BOTTOM_RIGHT, level.getCell(coordMovable2).getType());
 
         } catch (LevelException e) {
             fail("testSwapCells failed");
@@ -229,19 +239,66 @@ class LevelTest {
         }
     }
 
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - index API")
+    void indexes() {
+        try {
+            assertEquals(0, level.toIndex(0, 0));
+            assertEquals(7, level.toIndex(1, 3));
+            assertEquals(15, level.toIndex(3, 3));
+            LevelException ex = assertThrows(LevelException.class, () -> level.toIndex(4, 0));
+            assertEquals(LevelException.ERROR_COORDINATE, ex.getMessage());
+            ex = assertThrows(LevelException.class, () -> level.toIndex(0, -1));
+            assertEquals(LevelException.ERROR_COORDINATE, ex.getMessage());
+
+            for (int row = 0; row < level.getSize(); row++) {
+                for (int column = 0; column < level.getSize(); column++) {
+                    assertSame(level.getCell(new Coordinate(row, column)), level.getCell(level.toIndex(row, column)));
+                }
+            }
+            ex = assertThrows(LevelException.class, () -> level.getCell(16));
+            assertEquals(LevelException.ERROR_COORDINATE, ex.getMessage());
+
+            //The same rules as with coordinates
+            ex = assertThrows(LevelException.class, () -> level.swapCells(0, 4));
+            assertEquals(LevelException.ERROR_NO_MOVABLE_CELL, ex.getMessage());
+            ex = assertThrows(LevelException.class, () -> level.swapCells(4, 16));
+            assertEquals(LevelException.ERROR_COORDINATE, ex.getMessage());
+            ex = assertThrows(LevelException.class, () -> level.rotateCell(4));
+            assertEquals(LevelException.ERROR_NO_ROTATABLE_CELL, ex.getMessage());
+
+            level.swapCells(level.toIndex(1, 0), level.toIndex(2, 0));
+            level.swapCells(level.toIndex(2, 1), level.toIndex(2, 2));
+            level.rotateCell(level.toIndex(1, 3));
+            assertEquals(3, level.getNumMoves());
+            assertEquals(CellType.ROTATABLE_HORIZONTAL, level.getCell(7).getType());
+
+            Level expected = new Level("levels/test/level1.txt");
+            expected.swapCells(new Coordinate(1, 0), new Coordinate(2, 0));
+            expected.swapCells(new Coordinate(2, 1), new Coordinate(2, 2));
+            expected.rotateCell(new Coordinate(1, 3));
+            assertEquals(expected.toString(), level.toString());
+            assertEquals(expected.isSolved(), level.isSolved());
+        } catch (LevelException e) {
+            fail("indexes failed");
+            e.printStackTrace();
+        }
+    }
+
     @Test
     @Tag("minimum")
     @DisplayName("Minimum - rotateCell")
     void rotateCell() {
         try {
-            Cell cellRotatable = level.getCell(new Coordinate(1, 3));
-            Cell cellMovable = level.getCell(new Coordinate(1, 0));
+            Coordinate coordRotatable = new Coordinate(1, 3);
+            Cell cellRotatable = level.getCell(coordRotatable);
 
-            LevelException ex = assertThrows(LevelException.class, () -> level.rotateCell(cellMovable.getCoordinate()));
+            LevelException ex = assertThrows(LevelException.class, () -> level.rotateCell(new Coordinate(1, 0)));
             assertEquals(LevelException.ERROR_NO_ROTATABLE_CELL, ex.getMessage());
 
             assertEquals(CellType.ROTATABLE_VERTICAL, cellRotatable.getType());
-            level.rotateCell(cellRotatable.getCoordinate());
+            level.rotateCell(coordRotatable);
             assertEquals(CellType.ROTATABLE_HORIZONTAL, cellRotatable.getType());
         } catch (LevelException e) {
             fail("testRotateCell failed");
@@ -267,6 +324,140 @@ class LevelTest {
         }
     }
 
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - route length and frontier")
+    void route() {
+        try {
+            assertEquals(3, level.getRouteLength());
+            assertEquals(new Coordinate(1,2), level.getRouteFrontier());
+
+            //Moves that touch neither the route nor its frontier do not change them
+            level.swapCells(new Coordinate(1,0),new Coordinate(2,0));
+            assertEquals(3, level.getRouteLength());
+            assertEquals(new Coordinate(1,2), level.getRouteFrontier());
+
+            //A move on the route cuts it
+            level.swapCells(new Coordinate(2,1),new Coordinate(2,2));
+            assertEquals(2, level.getRouteLength());
+            assertEquals(new Coordinate(2,2), level.getRouteFrontier());
+
+            //A move on the frontier extends it up to the finish cell
+            level.swapCells(new Coordinate(1,2),new Coordinate(2,2));
+            assertTrue(level.isSolved());
+            assertNull(level.getRouteFrontier());
+            assertEquals(7, level.getRouteLength());
+        } catch (LevelException e) {
+            fail("route failed");
+            e.printStackTrace();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5,6,7})
+    @Tag("advanced")
+    @DisplayName("Advanced - incremental isSolved")
+    void isSolvedIncremental(int id) {
+        java.util.Random random = new java.util.Random(id);
+        try {
+            level = new Level("levels/level"+id+".txt");
+            int size = level.getSize();
+            for (int i = 0; i < 10000; i++) {
+                Coordinate first = new Coordinate(random.nextInt(size), random.nextInt(size));
+                Coordinate second = new Coordinate(random.nextInt(size), random.nextInt(size));
+                try {
+                    if (random.nextInt(4) == 0) {
+                        level.rotateCell(first);
+                    } else {
+                        level.swapCells(first, second);
+                    }
+                } catch (LevelException e) {
+                    //Illegal moves are ignored
+                }
+                byte[] board = level.getTypes();
+                assertEquals(RouteTracer.isSolved(board, size, RouteTracer.findStart(board, size)), level.isSolved());
+            }
+        } catch (LevelException e) {
+            fail("isSolvedIncremental failed");
+            e.printStackTrace();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1,2,3,4,5,6,7})
+    @Tag("advanced")
+    @DisplayName("Advanced - undo and redo")
+    void undoRedo(int id) {
+        java.util.Random random = new java.util.Random(id);
+        try {
+            level = new Level("levels/level"+id+".txt");
+            int size = level.getSize();
+            java.util.List<byte[]> boards = new java.util.ArrayList<>();
+            boards.add(level.getTypes());
+            assertFalse(level.canUndo());
+            assertFalse(level.undo());
+
+            while (boards.size() < 200) {
+                Coordinate first = new Coordinate(random.nextInt(size), random.nextInt(size));
+                Coordinate second = new Coordinate(random.nextInt(size), random.nextInt(size));
+                try {
+                    if (random.nextBoolean()) {
+                        level.rotateCell(first);
+                    } else {
+                        level.swapCells(first, second);
+                    }
+                    boards.add(level.getTypes());
+                } catch (LevelException e) {
+                    //Illegal moves are not recorded
+                }
+            }
+
+            for (int i = boards.size() - 1; i > 0; i--) {
+                assertTrue(level.undo());
+                assertArrayEquals(boards.get(i - 1), level.getTypes());
+                assertEquals(i - 1, level.getNumMoves());
+                byte[] board = level.getTypes();
+                assertEquals(RouteTracer.isSolved(board, size, RouteTracer.findStart(board, size)), level.isSolved());
+            }
+            assertFalse(level.undo());
+            assertTrue(level.canRedo());
+
+            for (int i = 1; i < boards.size(); i++) {
+                assertTrue(level.redo());
+                assertArrayEquals(boards.get(i), level.getTypes());
+                assertEquals(i, level.getNumMoves());
+            }
+            assertFalse(level.redo());
+
+            //A new move discards the moves that had been undone
+            level.undo();
+            level.undo();
+            Level copy = level.copy();
+            assertTrue(copy.canRedo());
+            byte[] board = level.getTypes();
+            int index = 0;
+            while (!CellType.values()[board[index]].isMovable() && !CellType.values()[board[index]].isRotatable()) {
+                index++;
+            }
+            Coordinate coordinate = new Coordinate(index / size, index % size);
+            if (CellType.values()[board[index]].isRotatable()) {
+                level.rotateCell(coordinate);
+            } else {
+                level.swapCells(coordinate, coordinate);
+            }
+            assertFalse(level.canRedo());
+            assertFalse(level.redo());
+            assertTrue(level.canUndo());
+
+            //The copy keeps its own history
+            assertTrue(copy.redo());
+            assertArrayEquals(boards.get(boards.size() - 2), copy.getTypes());
+        } catch (LevelException e) {
+            fail("undoRedo failed");
+            e.printStackTrace();
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1,2,3,4,5,6,7,8,9})
     @Tag("advanced")
@@ -295,6 +486,29 @@ class LevelTest {
         }
     }
 
+    @Test
+    @Tag("minimum")
+    @DisplayName("Minimum - copy")
+    void copy() {
+        try {
+            level.swapCells(new Coordinate(1,0),new Coordinate(2,0));
+            Level copy = level.copy();
+
+            assertEquals(level.toString(), copy.toString());
+            assertEquals(1, copy.getNumMoves());
+            assertEquals(level.getSize(), copy.getSize());
+            assertEquals(level.getDifficulty(), copy.getDifficulty());
+
+            copy.swapCells(new Coordinate(2,1),new Coordinate(2,2));
+            assertEquals(CellType.FREE, copy.getCell(new Coordinate(2,2)).getType());
+            assertEquals(CellType.TOP_RIGHT, level.getCell(new Coordinate(2,2)).getType());
+            assertEquals(1, level.getNumMoves());
+        } catch (LevelException e) {
+            fail("copy failed");
+            e.printStackTrace();
+        }
+    }
+
     @Test
     @Tag("minimum")
     @DisplayName("Minimum - toString")
@@ -316,5 +530,55 @@ class LevelTest {
                 +"b|╔╚═┃"+System.lineSeparator()
                 +"c|╗·╚╗"+System.lineSeparator()
                 +"d|·M·^", level.toString().trim());
+
+        //Boards of more than 26 rows
+        try {
+            Level big = Level.fromReader(new StringReader(new LevelGenerator(1).generateSolved(30, LevelDifficulty.MASTER)));
+            String[] rows = big.toString().split(System.lineSeparator());
+            assertEquals(31, rows.length);
+            assertTrue(rows[26].startsWith("z|"));
+            assertTrue(rows[27].startsWith("aa|"));
+            assertTrue(rows[30].startsWith("ad|"));
+        } catch (LevelException e) {
+            fail("testToString failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - factories")
+    void factories(@TempDir Path folder) {
+        try {
+            Level expected = new Level("levels/level7.txt");
+            byte[] text;
+            try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("levels/level7.txt")) {
+                text = Objects.requireNonNull(inputStream).readAllBytes();
+            }
+
+            Path file = folder.resolve("level7.txt");
+            Files.write(file, text);
+            assertEquals(expected.toString(), Level.fromPath(file).toString());
+
+            assertEquals(expected.toString(), Level.fromStream(new ByteArrayInputStream(text)).toString());
+            assertEquals(expected.toString(), Level.fromReader(new StringReader(new String(text, StandardCharsets.UTF_8))).toString());
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(text.length + 2).put((byte) '\n').put(text).put((byte) '\n');
+            buffer.flip();
+            Level level = Level.fromBuffer(buffer);
+            assertEquals(expected.toString(), level.toString());
+            assertEquals(expected.getDifficulty(), level.getDifficulty());
+            assertEquals(expected.getRouteLength(), level.getRouteLength());
+            assertEquals(0, buffer.position());
+
+            LevelException ex = assertThrows(LevelException.class,
+                    () -> Level.fromBuffer(ByteBuffer.wrap("3\nSTARTER\nF\u00b7\u00b7\nV\u00b7\u00b7\n\u00b7\u00b7\u00b7\n".getBytes(StandardCharsets.UTF_8))));
+            assertEquals(LevelException.ERROR_NO_STARTING, ex.getMessage());
+
+            assertThrows(IOException.class, () -> Level.fromPath(folder.resolve("level8.txt")));
+        } catch (LevelException | IOException e) {
+            fail("factories failed");
+            e.printStackTrace();
+        }
     }
 }
@@ -0,0 +1,179 @@
+package com.game.model.levels;
+
+import com.game.model.utils.Coordinate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class ReplayTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1,2,3,4,5,6,7})
+    @Tag("advanced")
+    @DisplayName("Advanced - record and play")
+    void recordAndPlay(int id) {
+        Random random = new Random(id);
+        try {
+            LevelTemplate template = new LevelTemplate("levels/level" + id + ".txt");
+            Level level = template.newLevel();
+            int size = level.getSize();
+            ReplayRecorder recorder = new ReplayRecorder(id, level, id % 2 == 0);
+
+            for (int i = 0; i < 2000; i++) {
+                int first = random.nextInt(size * size);
+                int second = random.nextInt(size * size);
+                try {
+                    switch (random.nextInt(6)) {
+                        case 0:
+                            level.rotateCell(new Coordinate(first / size, first % size));
+                            recorder.recordRotate(first);
+                            break;
+                        case 1:
+                            if (level.undo()) {
+                                recorder.recordUndo();
+                            }
+                            break;
+                        case 2:
+                            if (level.redo()) {
+                                recorder.recordRedo();
+                            }
+                            break;
+                        default:
+                            level.swapCells(new Coordinate(first / size, first % size), new Coordinate(second / size, second % size));
+                            recorder.recordSwap(first, second);
+                            break;
+                    }
+                } catch (LevelException e) {
+                    //Illegal moves are not recorded
+                }
+            }
+
+            Replay replay = Replay.read(new ByteArrayInputStream(recorder.toReplay().toByteArray()));
+            assertEquals(recorder.toReplay(), replay);
+            assertEquals(id, replay.getLevelId());
+            assertEquals(id % 2 == 0, replay.hasTimestamps());
+            assertEquals(recorder.getNumMoves(), replay.getNumMoves());
+            assertTrue(replay.getDuration() >= 0);
+
+            Level played = ReplayPlayer.play(replay, template);
+            assertArrayEquals(level.getTypes(), played.getTypes());
+            assertEquals(level.getNumMoves(), played.getNumMoves());
+            assertEquals(level.isSolved(), played.isSolved());
+            assertEquals(level.canUndo(), played.canUndo());
+            assertEquals(level.canRedo(), played.canRedo());
+        } catch (LevelException | IOException e) {
+            fail("recordAndPlay failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - replay of another level")
+    void otherLevel() {
+        try {
+            Level level = new Level("levels/test/level1.txt");
+            ReplayRecorder recorder = new ReplayRecorder(1, level, false);
+            level.swapCells(new Coordinate(1,0), new Coordinate(2,0));
+            recorder.recordSwap(4, 8);
+
+            //The level has changed since the recording started
+            assertThrows(IllegalArgumentException.class, () -> ReplayPlayer.play(recorder.toReplay(), level));
+            assertThrows(IllegalArgumentException.class, () -> ReplayPlayer.play(recorder.toReplay(), new LevelTemplate("levels/level1.txt")));
+            assertEquals(level.toString(), ReplayPlayer.play(recorder.toReplay(), new LevelTemplate("levels/test/level1.txt")).toString());
+        } catch (LevelException e) {
+            fail("otherLevel failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - illegal move")
+    void illegalMove() {
+        try {
+            LevelTemplate template = new LevelTemplate("levels/test/level1.txt");
+            ReplayRecorder recorder = new ReplayRecorder(1, template.newLevel(), false);
+            //Position (0,0) is a static cell
+            recorder.recordSwap(0, 4);
+
+            LevelException ex = assertThrows(LevelException.class, () -> ReplayPlayer.play(recorder.toReplay(), template));
+            assertEquals(LevelException.ERROR_NO_MOVABLE_CELL, ex.getMessage());
+
+            ReplayRecorder outside = new ReplayRecorder(1, template.newLevel(), false);
+            outside.recordRotate(-1);
+            ex = assertThrows(LevelException.class, () -> ReplayPlayer.play(outside.toReplay(), template));
+            assertEquals(LevelException.ERROR_COORDINATE, ex.getMessage());
+        } catch (LevelException e) {
+            fail("illegalMove failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - undo and redo without moves")
+    void undoRedoWithoutMoves() {
+        try {
+            LevelTemplate template = new LevelTemplate("levels/test/level1.txt");
+            ReplayRecorder undo = new ReplayRecorder(1, template.newLevel(), false);
+            undo.recordUndo();
+            assertThrows(IllegalArgumentException.class, () -> ReplayPlayer.play(undo.toReplay(), template));
+
+            ReplayRecorder redo = new ReplayRecorder(1, template.newLevel(), false);
+            redo.recordSwap(4, 8);
+            redo.recordUndo();
+            redo.recordRedo();
+            redo.recordRedo();
+            Level level = template.newLevel();
+            assertThrows(IllegalArgumentException.class, () -> ReplayPlayer.play(redo.toReplay(), level));
+            //The moves before the illegal redo remain done
+            assertEquals(1, level.getNumMoves());
+            assertTrue(level.canUndo());
+            assertFalse(level.canRedo());
+        } catch (LevelException e) {
+            fail("undoRedoWithoutMoves failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - corrupt replay")
+    void corruptReplay() {
+        try {
+            Level level = new Level("levels/test/level1.txt");
+            ReplayRecorder recorder = new ReplayRecorder(1, level, true);
+            recorder.recordSwap(4, 8);
+            recorder.recordRotate(6);
+            byte[] bytes = recorder.toReplay().toByteArray();
+
+            assertEquals(recorder.toReplay(), Replay.read(new ByteArrayInputStream(bytes)));
+            assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1))));
+
+            byte[] wrongMagic = bytes.clone();
+            wrongMagic[0] = 0;
+            assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(wrongMagic)));
+
+            //Last byte of the moves with the continuation bit set
+            byte[] truncatedMove = bytes.clone();
+            truncatedMove[truncatedMove.length - 1] |= (byte) 0x80;
+            assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(truncatedMove)));
+        } catch (LevelException | IOException e) {
+            fail("corruptReplay failed");
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.game.model.levels;
+
+import com.game.model.utils.Coordinate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class SubmissionVerifierTest {
+
+    private final LevelSource source = new LevelSource() {
+        @Override
+        public int getNumLevels() {
+            return 2;
+        }
+
+        @Override
+        public LevelTemplate getTemplate(int numLevel) throws LevelException {
+            return new LevelTemplate("levels/test/level" + numLevel + ".txt");
+        }
+    };
+
+    /**
+     * Records the first "numMoves" moves of the solution of the given level.
+     */
+    private Replay record(int levelId, LevelTemplate template, int numMoves) throws LevelException {
+        return recorder(levelId, template, numMoves).toReplay();
+    }
+
+    /**
+     * Returns a recorder with the first "numMoves" moves of the solution of the given level, so that more moves
+     * can be added.
+     */
+    private ReplayRecorder recorder(int levelId, LevelTemplate template, int numMoves) throws LevelException {
+        Level level = template.newLevel();
+        int size = level.getSize();
+        ReplayRecorder recorder = new ReplayRecorder(levelId, level, false);
+        for (Move move : level.solve().getMoves().subList(0, numMoves)) {
+            move.apply(level);
+            Coordinate first = move.getFirst();
+            if (move.getType() == Move.Type.SWAP) {
+                Coordinate second = move.getSecond();
+                recorder.recordSwap(first.getRow() * size + first.getColumn(), second.getRow() * size + second.getColumn());
+            } else {
+                recorder.recordRotate(first.getRow() * size + first.getColumn());
+            }
+        }
+        return recorder;
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - verify")
+    void verify() {
+        try (SubmissionVerifier verifier = new SubmissionVerifier(source, 2)) {
+            LevelTemplate template = source.getTemplate(1);
+            Replay solved = record(1, template, 2);
+
+            VerificationResult result = verifier.verify(new Submission("valid", solved, 2));
+            assertTrue(result.isValid());
+            assertEquals(2, result.getNumMoves());
+            assertNull(result.getMessage());
+
+            //The same moves solve level 2, which is equal to level 1
+            assertTrue(verifier.verify(new Submission("valid-2", record(2, template, 2), 2)).isValid());
+
+            assertEquals(VerificationResult.Status.WRONG_NUM_MOVES, verifier.verify(new Submission("claim", solved, 1)).getStatus());
+            assertEquals(VerificationResult.Status.NOT_SOLVED, verifier.verify(new Submission("unsolved", record(1, template, 1), 1)).getStatus());
+            assertEquals(VerificationResult.Status.UNKNOWN_LEVEL, verifier.verify(new Submission("unknown", record(3, template, 2), 2)).getStatus());
+            assertEquals(VerificationResult.Status.WRONG_LEVEL,
+                    verifier.verify(new Submission("other", record(1, new LevelTemplate("levels/level1.txt"), 0), 0)).getStatus());
+
+            //Position (0,0) is a static cell
+            ReplayRecorder recorder = new ReplayRecorder(1, template.newLevel(), false);
+            recorder.recordSwap(0, 4);
+            result = verifier.verify(new Submission("illegal", recorder.toReplay(), 1));
+            assertEquals(VerificationResult.Status.ILLEGAL_MOVE, result.getStatus());
+            assertEquals(LevelException.ERROR_NO_MOVABLE_CELL, result.getMessage());
+            assertEquals(0, result.getNumMoves());
+
+            //The level of the thread has been reset
+            assertTrue(verifier.verify(new Submission("valid", solved, 2)).isValid());
+        } catch (LevelException e) {
+            fail("verify failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - verify spurious undo and redo")
+    void verifySpuriousUndoRedo() {
+        try (SubmissionVerifier verifier = new SubmissionVerifier(source, 1)) {
+            LevelTemplate template = source.getTemplate(1);
+
+            //An undo before any move
+            ReplayRecorder undo = recorder(1, template, 0);
+            undo.recordUndo();
+            VerificationResult result = verifier.verify(new Submission("undo", undo.toReplay(), 0));
+            assertEquals(VerificationResult.Status.ILLEGAL_MOVE, result.getStatus());
+            assertEquals(0, result.getNumMoves());
+
+            //The solution padded with a redo when there is no move to redo
+            ReplayRecorder redo = recorder(1, template, 2);
+            redo.recordUndo();
+            redo.recordRedo();
+            redo.recordRedo();
+            result = verifier.verify(new Submission("redo", redo.toReplay(), 2));
+            assertEquals(VerificationResult.Status.ILLEGAL_MOVE, result.getStatus());
+            assertEquals(2, result.getNumMoves());
+        } catch (LevelException e) {
+            fail("verifySpuriousUndoRedo failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - verify in parallel")
+    void verifyAll() {
+        try (SubmissionVerifier verifier = new SubmissionVerifier(source, 4)) {
+            LevelTemplate template = source.getTemplate(1);
+            Replay[] replays = {record(1, template, 2), record(2, template, 2), record(1, template, 1), record(3, template, 2)};
+            VerificationResult.Status[] statuses = {VerificationResult.Status.VALID, VerificationResult.Status.VALID,
+                    VerificationResult.Status.NOT_SOLVED, VerificationResult.Status.UNKNOWN_LEVEL};
+
+            List<Submission> submissions = new ArrayList<>();
+            Map<String, VerificationResult.Status> expected = new HashMap<>();
+            for (int i = 0; i < 5000; i++) {
+                Submission submission = new Submission(String.valueOf(i), replays[i % replays.length], replays[i % replays.length].getNumMoves());
+                submissions.add(submission);
+                expected.put(submission.getId(), statuses[i % statuses.length]);
+            }
+
+            Map<String, VerificationResult.Status> results = verifier.verifyAll(submissions)
+                    .collect(Collectors.toMap(result -> result.getSubmission().getId(), VerificationResult::getStatus));
+            assertEquals(expected, results);
+
+            assertEquals(0, verifier.verifyAll(List.of()).count());
+        } catch (LevelException e) {
+            fail("verifyAll failed");
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.game.model.metrics;
+
+import com.game.controller.Game;
+import com.game.model.levels.LevelException;
+import com.game.model.levels.ResourceLevelSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class GameMetricsTest {
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - latency histogram")
+    void latencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(0.99));
+
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(10_000);
+        assertEquals(100, histogram.getCount());
+        assertEquals(199, histogram.getMean());
+        assertEquals(10_000, histogram.getMax());
+        //100 is in the bucket [64, 127] and 10000 in the bucket [8192, 16383]
+        assertEquals(127, histogram.getPercentile(0.50));
+        assertEquals(127, histogram.getPercentile(0.99));
+        assertEquals(10_000, histogram.getPercentile(1));
+
+        histogram.record(-5);
+        assertEquals(101, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(0));
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - game metrics")
+    void gameMetrics() {
+        try {
+            Map<String, Long> before = GameMetrics.snapshot();
+            Game game = new Game(new ResourceLevelSource("levels/test/"));
+            assertTrue(game.nextLevel());
+            game.swap(game.toIndex(1, 0), game.toIndex(2, 0));
+            assertThrows(LevelException.class, () -> game.swap(game.toIndex(0, 0), game.toIndex(1, 0)));
+            assertThrows(LevelException.class, () -> game.rotate(game.toIndex(0, 0)));
+            //Moves are counted when they are flushed: every FLUSH_INTERVAL moves, when a level is loaded
+            //and when the game is left
+            game.flushMetrics();
+            Map<String, Long> after = GameMetrics.snapshot();
+            assertEquals(1, after.get("moves.swaps") - before.get("moves.swaps"));
+            assertEquals(1, after.get("moves.swaps.failed") - before.get("moves.swaps.failed"));
+            assertEquals(0, after.get("moves.rotations") - before.get("moves.rotations"));
+            assertEquals(1, after.get("moves.rotations.failed") - before.get("moves.rotations.failed"));
+            assertEquals(1, after.get("level.loads") - before.get("level.loads"));
+            assertTrue(after.get("level.parse.count") > before.getOrDefault("level.parse.count", 0L));
+
+            //Only one of every SAMPLE_INTERVAL calls to isSolved() is timed
+            for (int i = 0; i < MetricsRecorder.SAMPLE_INTERVAL; i++) {
+                assertFalse(game.isLevelSolved());
+            }
+            LatencyHistogram latency = GameMetrics.getSolvedLatency(game.getBoardSize());
+            assertNotNull(latency);
+            long sampled = latency.getCount();
+
+            //Neither moves nor loading a level restart the sampling
+            for (int i = 0; i < MetricsRecorder.SAMPLE_INTERVAL; i++) {
+                if (i == MetricsRecorder.SAMPLE_INTERVAL / 2) {
+                    game.swap(game.toIndex(1, 0), game.toIndex(2, 0));
+                    game.reload();
+                }
+                assertFalse(game.isLevelSolved());
+            }
+            assertEquals(sampled + 1, latency.getCount());
+            game.flushMetrics();
+            after = GameMetrics.snapshot();
+            assertEquals(2, after.get("moves.swaps") - before.get("moves.swaps"));
+            assertEquals(2 * MetricsRecorder.SAMPLE_INTERVAL, after.get("solved.checks") - before.get("solved.checks"));
+
+            //Finishing the game flushes it as well (the last level of the folder has the same board)
+            assertTrue(game.nextLevel());
+            long swaps = GameMetrics.snapshot().get("moves.swaps");
+            for (int i = 0; i < MetricsRecorder.FLUSH_INTERVAL / 2; i++) {
+                game.swap(game.toIndex(1, 0), game.toIndex(2, 0));
+            }
+            assertEquals(0, GameMetrics.snapshot().get("moves.swaps") - swaps);
+            assertFalse(game.nextLevel());
+            assertEquals(MetricsRecorder.FLUSH_INTERVAL / 2, GameMetrics.snapshot().get("moves.swaps") - swaps);
+        } catch (IOException | LevelException e) {
+            fail("gameMetrics failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - disabled metrics")
+    void disabled() {
+        try {
+            Game game = new Game(new ResourceLevelSource("levels/test/"));
+            assertTrue(game.nextLevel());
+            GameMetrics.setEnabled(false);
+            assertFalse(GameMetrics.isEnabled());
+            Map<String, Long> before = GameMetrics.snapshot();
+            game.swap(game.toIndex(1, 0), game.toIndex(2, 0));
+            assertThrows(LevelException.class, () -> game.rotate(game.toIndex(0, 0)));
+            game.reload();
+            assertEquals(before, GameMetrics.snapshot());
+        } catch (IOException | LevelException e) {
+            fail("disabled failed");
+            e.printStackTrace();
+        } finally {
+            GameMetrics.setEnabled(true);
+        }
+        assertTrue(GameMetrics.isEnabled());
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - MBean and snapshot file")
+    void mbean(@TempDir Path folder) {
+        try {
+            GameMetrics.registerMBean();
+            GameMetrics.registerMBean();
+            ObjectName name = new ObjectName(GameMetrics.OBJECT_NAME);
+            assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+            assertEquals(GameMetrics.isEnabled(), ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Enabled"));
+
+            Path file = folder.resolve("metrics.properties");
+            ManagementFactory.getPlatformMBeanServer().invoke(name, "dumpSnapshot",
+                    new Object[]{file.toString()}, new String[]{String.class.getName()});
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+            }
+            assertTrue(properties.containsKey("moves.swaps"));
+            assertTrue(properties.containsKey("level.load.p99"));
+            assertEquals(GameMetrics.snapshot().size(), properties.size());
+        } catch (IOException | JMException e) {
+            fail("mbean failed");
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.game.model.metrics;
+
+import com.game.controller.Game;
+import com.game.model.levels.LevelException;
+import com.game.model.levels.ResourceLevelSource;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class LevelEventTest {
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - flight recorder events")
+    void events(@TempDir Path folder) {
+        try (Recording recording = new Recording()) {
+            recording.enable(LevelLoadEvent.class);
+            recording.enable(NextLevelEvent.class);
+            recording.enable(MoveEvent.class);
+            recording.enable(SolvedCheckEvent.class);
+            recording.start();
+
+            Game game = new Game(new ResourceLevelSource("levels/test/"));
+            assertTrue(game.nextLevel());
+            game.swap(game.toIndex(1, 0), game.toIndex(2, 0));
+            assertThrows(LevelException.class, () -> game.rotate(game.toIndex(0, 0)));
+            assertFalse(game.isLevelSolved());
+            assertTrue(game.nextLevel());
+            assertFalse(game.nextLevel());
+
+            recording.stop();
+            Path file = folder.resolve("game.jfr");
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("com.game."))
+                    .collect(Collectors.toList());
+
+            List<RecordedEvent> loads = byName(events, "com.game.LevelLoad");
+            assertEquals(2, loads.size());
+            assertEquals(1, loads.get(0).getInt("level"));
+            assertEquals(4, loads.get(0).getInt("size"));
+            assertEquals("STARTER", loads.get(0).getString("difficulty"));
+            assertEquals(LevelEvent.OUTCOME_OK, loads.get(0).getString("outcome"));
+
+            List<RecordedEvent> nextLevels = byName(events, "com.game.NextLevel");
+            assertEquals(3, nextLevels.size());
+            assertEquals(2, nextLevels.get(1).getInt("level"));
+            assertEquals(NextLevelEvent.OUTCOME_FINISHED, nextLevels.get(2).getString("outcome"));
+
+            List<RecordedEvent> moves = byName(events, "com.game.Move");
+            assertEquals(2, moves.size());
+            assertEquals(MoveEvent.SWAP, moves.get(0).getString("move"));
+            assertEquals(4, moves.get(0).getInt("first"));
+            assertEquals(8, moves.get(0).getInt("second"));
+            assertEquals(1, moves.get(0).getInt("moves"));
+            assertEquals(LevelEvent.OUTCOME_OK, moves.get(0).getString("outcome"));
+            assertEquals(MoveEvent.ROTATE, moves.get(1).getString("move"));
+            assertEquals(LevelException.ERROR_NO_ROTATABLE_CELL, moves.get(1).getString("outcome"));
+
+            List<RecordedEvent> checks = byName(events, "com.game.SolvedCheck");
+            assertEquals(1, checks.size());
+            assertEquals(SolvedCheckEvent.OUTCOME_UNSOLVED, checks.get(0).getString("outcome"));
+        } catch (IOException | LevelException e) {
+            fail("events failed");
+            e.printStackTrace();
+        }
+    }
+
+    private static List<RecordedEvent> byName(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
@@ -38,8 +38,9 @@ class CoordinateTest {
     @Tag("sanity")
     @DisplayName("Sanity - Fields definition")
     void checkFieldsSanity() {
-        //All fields must be private
+        //All fields must be private and final
         assertTrue(Arrays.stream(ownClass.getDeclaredFields()).allMatch(p -> Modifier.isPrivate(p.getModifiers())));
+        assertTrue(Arrays.stream(ownClass.getDeclaredFields()).allMatch(p -> Modifier.isFinal(p.getModifiers())));
 
 
     }
@@ -50,19 +51,19 @@ class CoordinateTest {
     void checkMethodsSanity() {
         //Min 7 methods
         assertTrue(ownClass.getDeclaredMethods().length>=7);
-        //Max 5 public methods
-        assertEquals(5,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
+        //Max 7 public methods
+        assertEquals(7,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isPublic(p.getModifiers())).count());
         //Max 0 protected methods
         assertEquals(0,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isProtected(p.getModifiers())).count());
         //Max 0 package-private methods
         assertEquals(0,Arrays.stream(ownClass.getDeclaredMethods()).filter(p -> Modifier.isNative(p.getModifiers())).count());
-        //Min 2 private methods
-        assertTrue(Arrays.stream(ownClass.getDeclaredMethods()).filter(ModifierSupport::isPrivate).count()>=2);
+        //Max 0 private methods: coordinates are immutable
+        assertEquals(0,Arrays.stream(ownClass.getDeclaredMethods()).filter(ModifierSupport::isPrivate).count());
 
         try {
-            //These methods must be private
-            assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("setRow", int.class).getModifiers()));
-            assertTrue(Modifier.isPrivate(ownClass.getDeclaredMethod("setColumn", int.class).getModifiers()));
+            //These methods must be static
+            assertTrue(Modifier.isStatic(ownClass.getDeclaredMethod("fromIndex", int.class, int.class).getModifiers()));
+            assertFalse(Modifier.isStatic(ownClass.getDeclaredMethod("toIndex", int.class).getModifiers()));
 
 
             //Max 1 constructor
@@ -124,6 +125,24 @@ class CoordinateTest {
         assertEquals(c1.hashCode(),c3.hashCode());
     }
 
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - toIndex and fromIndex")
+    void toIndex() {
+        assertEquals(6, c1.toIndex(4));
+        assertEquals(c1, Coordinate.fromIndex(6, 4));
+        assertEquals(new Coordinate(0,0), Coordinate.fromIndex(0, 4));
+        assertEquals(new Coordinate(3,3), Coordinate.fromIndex(15, 4));
+
+        for (int index = 0; index < 256 * 256; index++) {
+            assertEquals(index, Coordinate.fromIndex(index, 256).toIndex(256));
+        }
+
+        //Coordinates of a board do not collide in hash tables
+        assertNotEquals(new Coordinate(0,31).hashCode(), new Coordinate(1,0).hashCode());
+        assertNotEquals(new Coordinate(1,2).hashCode(), new Coordinate(2,1).hashCode());
+    }
+
     @Test
     @Tag("minimum")
     @DisplayName("Minimum - toString")
@@ -0,0 +1,121 @@
+package com.game.view.server;
+
+import com.game.model.levels.LevelException;
+import com.game.model.levels.ResourceLevelSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+class SessionHostTest {
+
+    /**
+     * Client of a session: sends a command and returns the first line of the response.
+     */
+    private static final class Client implements AutoCloseable {
+
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+
+        private Client(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        private String send(String command) throws IOException {
+            writer.print(command + "\n");
+            writer.flush();
+            return reader.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - sessions")
+    void sessions() {
+        try (SessionHost host = new SessionHost(new ResourceLevelSource("levels/test/"), 0);
+             Client first = new Client(host.getPort());
+             Client second = new Client(host.getPort())) {
+            host.start();
+
+            assertEquals("ERR There is no level in progress", first.send("UNDO"));
+            assertEquals("OK 1 4 STARTER", first.send("NEXT"));
+            assertEquals("OK 1 false", first.send("SWAP 1 0 2 0"));
+            assertEquals("OK 2 false", first.send("SWAP 2 1 2 2"));
+            assertEquals("ERR " + LevelException.ERROR_NO_MOVABLE_CELL, first.send("SWAP 0 0 1 0"));
+            assertEquals("ERR " + LevelException.ERROR_COORDINATE, first.send("ROTATE 9 9"));
+            assertEquals("ERR Wrong number of arguments", first.send("SWAP 1 0"));
+            assertEquals("ERR Unknown command", first.send("JUMP"));
+            assertEquals("OK 1 false", first.send("UNDO"));
+            assertEquals("OK 2 false", first.send("REDO"));
+
+            //The sessions are independent
+            assertEquals("OK 1 4 STARTER", second.send("NEXT"));
+            assertEquals("OK 5", second.send("BOARD"));
+            assertEquals("1234", second.reader.readLine());
+            assertEquals("a|v·~·", second.reader.readLine());
+            assertEquals("b|╔╗═┃", second.reader.readLine());
+            assertEquals("c|╚·╚╗", second.reader.readLine());
+            assertEquals("d|·M·^", second.reader.readLine());
+            assertEquals("OK 0 false", second.send("RELOAD"));
+
+            assertEquals("OK 0 false", first.send("RELOAD"));
+            assertEquals("OK 2 4 STARTER", first.send("NEXT"));
+            assertEquals("OK END", first.send("NEXT"));
+            assertEquals(2, host.getNumSessions());
+
+            assertEquals("OK BYE", first.send("QUIT"));
+            assertNull(first.reader.readLine());
+            for (int i = 0; i < 100 && host.getNumSessions() > 1; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, host.getNumSessions());
+        } catch (IOException | InterruptedException e) {
+            fail("sessions failed");
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    @Tag("advanced")
+    @DisplayName("Advanced - close")
+    void close() {
+        try {
+            SessionHost host = new SessionHost(new ResourceLevelSource("levels/test/"), 0);
+            host.start();
+            try (Client client = new Client(host.getPort())) {
+                assertEquals("OK 1 4 STARTER", client.send("NEXT"));
+                host.close();
+
+                //The session has been closed by the host, and no more connections are accepted
+                assertNull(client.reader.readLine());
+                assertThrows(IOException.class, () -> new Client(host.getPort()).close());
+            }
+
+            //A host that has not been started can also be closed
+            new SessionHost(new ResourceLevelSource("levels/test/"), 0).close();
+        } catch (IOException e) {
+            fail("close failed");
+            e.printStackTrace();
+        }
+    }
+}